@@ -32,7 +32,7 @@ public class CreateChannelDto {
     @NotNull
     @Min(8)
     @JsonProperty("maxPlayer")
-    @Schema(description = "매치 최대 참가자 수", example = "8, 16, 32, 64")
+    @Schema(description = "매치 최대 참가자 수(8 이상, 8의 배수가 아니어도 됨)", example = "8, 16, 100, 1024")
     private Integer maxPlayer;
 
     @NotNull
@@ -1,12 +1,16 @@
 package leaguehub.leaguehubbackend.domain.channel.entity;
 
 import jakarta.persistence.*;
+import leaguehub.leaguehubbackend.domain.match.entity.BracketStructure;
 import leaguehub.leaguehubbackend.global.audit.BaseTimeEntity;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 
+import java.util.List;
+import java.util.Optional;
+
 import static java.util.UUID.randomUUID;
 
 @Getter
@@ -50,6 +54,13 @@ public class Channel extends BaseTimeEntity {
 
     private String channelImageUrl;
 
+    //라운드별 경기 횟수, 마지막 라운드부터 순서대로 저장(예: [결승, 4강, 8강])
+    @Convert(converter = MatchSetCountListConverter.class)
+    private List<Integer> matchSetCountList;
+
+    @Version
+    private Long version;
+
     //-- 비즈니스 로직 --//
     public static Channel createChannel(String title, int game, int maxPlayer,
                                         int matchFormat, String channelImageUrl) {
@@ -109,4 +120,27 @@ public class Channel extends BaseTimeEntity {
     public void updateChannelLiveRound(Integer liveRound){
         this.liveRound = liveRound;
     }
+
+    public void updateMatchSetCountList(List<Integer> matchSetCountList) {
+        this.matchSetCountList = List.copyOf(matchSetCountList);
+    }
+
+    //최대 참가자 수로 계산한 대진표 구조
+    public BracketStructure getBracketStructure() {
+        return BracketStructure.of(maxPlayer);
+    }
+
+    public int getRoundCount() {
+        return getBracketStructure().getRoundCount();
+    }
+
+    //해당 라운드에 설정된 경기 횟수, 설정하지 않았다면 empty
+    public Optional<Integer> findMatchSetCount(int matchRound) {
+        if (matchSetCountList == null) return Optional.empty();
+
+        int index = matchSetCountList.size() - matchRound;
+        if (index < 0 || index >= matchSetCountList.size()) return Optional.empty();
+
+        return Optional.of(matchSetCountList.get(index));
+    }
 }
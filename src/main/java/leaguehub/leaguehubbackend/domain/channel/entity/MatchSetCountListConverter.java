@@ -0,0 +1,36 @@
+package leaguehub.leaguehubbackend.domain.channel.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 라운드별 경기 횟수를 "1,3,3" 형태의 문자열 한 컬럼으로 저장
+ */
+@Converter
+public class MatchSetCountListConverter implements AttributeConverter<List<Integer>, String> {
+
+    private static final String DELIMITER = ",";
+
+    @Override
+    public String convertToDatabaseColumn(List<Integer> matchSetCountList) {
+        if (matchSetCountList == null || matchSetCountList.isEmpty()) return null;
+
+        return matchSetCountList.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    @Override
+    public List<Integer> convertToEntityAttribute(String value) {
+        if (value == null || value.isBlank()) return null;
+
+        return Arrays.stream(value.split(DELIMITER))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+    }
+}
@@ -13,6 +13,7 @@ import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRepository;
 import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRuleRepository;
 import leaguehub.leaguehubbackend.domain.email.exception.exception.UnauthorizedEmailException;
 import leaguehub.leaguehubbackend.domain.match.service.MatchService;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewChangedEvent;
 import leaguehub.leaguehubbackend.domain.match.service.chat.MatchChatService;
 import leaguehub.leaguehubbackend.domain.member.entity.Member;
 import leaguehub.leaguehubbackend.domain.member.service.MemberService;
@@ -22,6 +23,7 @@ import leaguehub.leaguehubbackend.domain.participant.exception.exception.Invalid
 import leaguehub.leaguehubbackend.domain.participant.repository.ParticipantRepository;
 import leaguehub.leaguehubbackend.global.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -46,6 +48,7 @@ public class ChannelService {
     private final ChannelRuleRepository channelRuleRepository;
     private final MatchChatService matchChatService;
     private final ChannelInfoRepository channelInfoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ParticipantChannelDto createChannel(CreateChannelDto createChannelDto) {
@@ -121,6 +124,10 @@ public class ChannelService {
         Optional.ofNullable(updateChannelDto.getTitle()).ifPresent(channel::updateTitle);
         Optional.ofNullable(updateChannelDto.getMaxPlayer()).ifPresent(channel::updateMaxPlayer);
         Optional.ofNullable(updateChannelDto.getChannelImageUrl()).ifPresent(channel::updateChannelImageUrl);
+
+        //최대 인원이 바뀌면 대진표 구조(라운드 목록, 라운드별 경기 횟수)가 바뀐다.
+        if (updateChannelDto.getMaxPlayer() != null)
+            eventPublisher.publishEvent(MatchViewChangedEvent.ofChannel(channelLink));
     }
 
 
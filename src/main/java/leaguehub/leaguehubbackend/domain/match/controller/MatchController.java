@@ -9,10 +9,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import leaguehub.leaguehubbackend.domain.match.dto.MatchCallAdminDto;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchRoundScoreJobDto;
 import leaguehub.leaguehubbackend.domain.match.dto.MatchSetCountDto;
+import leaguehub.leaguehubbackend.domain.match.service.MatchRoundScoreService;
 import leaguehub.leaguehubbackend.domain.match.service.MatchService;
 import leaguehub.leaguehubbackend.domain.match.service.chat.MatchChatService;
 import leaguehub.leaguehubbackend.global.exception.global.ExceptionResponse;
+import leaguehub.leaguehubbackend.global.retry.OptimisticRetryExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -20,6 +23,7 @@ import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.OK;
 
 @Tag(name = "Match-Controller", description = "대회 관련 API")
@@ -31,6 +35,8 @@ public class MatchController {
     private final MatchService matchService;
     private final SimpMessagingTemplate simpMessagingTemplate;
     private final MatchChatService matchChatService;
+    private final MatchRoundScoreService matchRoundScoreService;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
 
 
     @Operation(summary = "해당 채널의 라운드 경기 배정")
@@ -45,7 +51,7 @@ public class MatchController {
     @PostMapping("/match/{channelLink}/{matchRound}")
     public ResponseEntity assignmentMatches(@PathVariable("channelLink") String channelLink, @PathVariable("matchRound") Integer matchRound) {
 
-        matchService.matchAssignment(channelLink, matchRound);
+        optimisticRetryExecutor.run("match.assignment", () -> matchService.matchAssignment(channelLink, matchRound));
 
         return new ResponseEntity<>("참가자들이 첫 매치에 배정되었습니다.", OK);
     }
@@ -69,6 +75,24 @@ public class MatchController {
         return new ResponseEntity("경기 횟수가 배정되었습니다.", OK);
     }
 
+    @Operation(summary = "해당 채널의 라운드 점수 일괄 업데이트")
+    @Parameters(value = {
+            @Parameter(name = "channelLink", description = "해당 채널의 링크", example = "42aa1b11ab88"),
+            @Parameter(name = "matchRound", description = "점수를 업데이트할 라운드", example = "1, 2, 3, 4")
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "라운드 점수 업데이트 시작, 진행 상황은 /match/{channelLink}/{matchRound}/score-progress 로 전송", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchRoundScoreJobDto.class))),
+            @ApiResponse(responseCode = "400", description = "해당 라운드의 점수 업데이트가 이미 진행 중", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한이 관리자가 아님,채널을 찾을 수 없음", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionResponse.class)))
+    })
+    @PostMapping("/match/{channelLink}/{matchRound}/score")
+    public ResponseEntity scoreMatchRound(@PathVariable("channelLink") String channelLink, @PathVariable("matchRound") Integer matchRound) {
+
+        MatchRoundScoreJobDto matchRoundScoreJobDto = matchRoundScoreService.scoreRound(channelLink, matchRound);
+
+        return new ResponseEntity<>(matchRoundScoreJobDto, ACCEPTED);
+    }
+
     @MessageMapping("/match/{channelLink}/{participantId}/{matchId}/call-admin")
     public void callAdmin(@DestinationVariable("channelLink") String channelLink,
                           @DestinationVariable("participantId") String participantId,
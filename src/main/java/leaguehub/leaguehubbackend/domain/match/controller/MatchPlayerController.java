@@ -2,10 +2,11 @@ package leaguehub.leaguehubbackend.domain.match.controller;
 
 
 import io.swagger.v3.oas.annotations.tags.Tag;
-import leaguehub.leaguehubbackend.domain.match.dto.MatchInfoDto;
 import leaguehub.leaguehubbackend.domain.match.dto.MatchSetReadyMessage;
 import leaguehub.leaguehubbackend.domain.match.service.MatchPlayerService;
+import leaguehub.leaguehubbackend.domain.match.service.MatchScorePollingService;
 import leaguehub.leaguehubbackend.domain.participant.dto.ParticipantIdResponseDto;
+import leaguehub.leaguehubbackend.global.retry.OptimisticRetryExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -22,7 +23,9 @@ public class MatchPlayerController {
 
 
     private final MatchPlayerService matchPlayerService;
+    private final MatchScorePollingService matchScorePollingService;
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
 
 
     /**
@@ -33,23 +36,21 @@ public class MatchPlayerController {
     @MessageMapping("/match/{matchId}/checkIn")
     public void checkIn(@DestinationVariable("matchId") String matchIdStr, @Payload MatchSetReadyMessage message) {
 
-        ParticipantIdResponseDto participantIdResponseDto = matchPlayerService.markPlayerAsReady(message, matchIdStr);
+        ParticipantIdResponseDto participantIdResponseDto = optimisticRetryExecutor.execute("match.check-in",
+                () -> matchPlayerService.markPlayerAsReady(message, matchIdStr));
 
         simpMessagingTemplate.convertAndSend("/match/" + matchIdStr, participantIdResponseDto);
     }
 
     /**
      * 참가자 매치 점수 업데이트
+     * 결과 조회는 MatchScorePollingService 가 처리하고, 이 요청은 바로 조회하라는 힌트로만 쓰인다.
+     * 결과가 반영되면 /match/{matchId}/{matchSet} 으로 전송된다.
      * @param matchIdStr
      * @param matchSetStr
      */
     @MessageMapping("/match/{matchId}/{matchSet}/score-update")
     public void updateMatchPlayerScore(@DestinationVariable("matchId") String matchIdStr, @DestinationVariable("matchSet") String matchSetStr) {
-        Long matchId = Long.valueOf(matchIdStr);
-        Integer matchSet = Integer.valueOf(matchSetStr);
-        long endTime = System.currentTimeMillis() / 1000;
-        MatchInfoDto matchInfoDto = matchPlayerService.updateMatchPlayerScore(matchId, matchSet, endTime);
-
-        simpMessagingTemplate.convertAndSend("/match/" + matchId + "/" + matchSet, matchInfoDto);
+        matchScorePollingService.requestPoll(Long.valueOf(matchIdStr), Integer.valueOf(matchSetStr));
     }
 }
@@ -11,16 +11,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import leaguehub.leaguehubbackend.domain.match.dto.*;
 import leaguehub.leaguehubbackend.domain.match.service.MatchQueryService;
+import leaguehub.leaguehubbackend.domain.match.service.cache.BracketSnapshotCache;
+import leaguehub.leaguehubbackend.domain.match.service.cache.BracketSnapshotCache.BracketETag;
 import leaguehub.leaguehubbackend.domain.match.service.chat.MatchChatService;
+import leaguehub.leaguehubbackend.domain.match.service.stream.BracketDeltaStream;
 import leaguehub.leaguehubbackend.global.exception.global.ExceptionResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.springframework.http.HttpStatus.OK;
 
@@ -33,39 +42,47 @@ public class MatchQueryController {
 
     private final MatchChatService matchChatService;
     private final MatchQueryService matchQueryService;
+    private final BracketSnapshotCache bracketSnapshotCache;
+    private final BracketDeltaStream bracketDeltaStream;
 
 
     @Operation(summary = "라운드 수(몇 강) 리스트 반환 - 사용자")
     @Parameter(name = "channelLink", description = "해당 채널의 링크", example = "42aa1b11ab88")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "라운드(몇 강) 리스트 반환", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchRoundListDto.class))),
+            @ApiResponse(responseCode = "304", description = "대진표가 바뀌지 않음(If-None-Match 와 ETag 가 같음)"),
             @ApiResponse(responseCode = "403", description = "매치 결과를 찾을 수 없음", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionResponse.class)))
     })
     @GetMapping("/match/{channelLink}")
-    public ResponseEntity loadMatchRoundList(@PathVariable("channelLink") String channelLink) {
+    public ResponseEntity loadMatchRoundList(@PathVariable("channelLink") String channelLink, WebRequest webRequest) {
 
-        MatchRoundListDto roundList = matchQueryService.getRoundList(channelLink);
-
-        return new ResponseEntity<>(roundList, OK);
+        //HOST 는 liveRound 가 달라 요청자마다 다른 작은 응답이므로 바이트는 저장하지 않는다.
+        return versionedResponse(webRequest, channelLink, "rounds",
+                () -> matchQueryService.getRoundList(channelLink));
     }
 
 
     @Operation(summary = "해당 채널의 (1, 2, 3)라운드에 대한 매치 조회")
     @Parameters(value = {
             @Parameter(name = "channelLink", description = "해당 채널의 링크", example = "42aa1b11ab88"),
-            @Parameter(name = "matchRound", description = "조회하고 싶은 매치의 라운드(1, 2, 3)", example = "1, 2, 3, 4")
+            @Parameter(name = "matchRound", description = "조회하고 싶은 매치의 라운드(1, 2, 3)", example = "1, 2, 3, 4"),
+            @Parameter(name = "page", description = "그룹 페이지(0 부터 시작)", example = "0"),
+            @Parameter(name = "size", description = "한 페이지의 그룹 수(최대 64)", example = "16")
     })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "매치가 조회되었습니다. - 배열로 반환", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchRoundInfoDto.class))),
+            @ApiResponse(responseCode = "304", description = "대진표가 바뀌지 않음(If-None-Match 와 ETag 가 같음)"),
             @ApiResponse(responseCode = "403", description = "권한이 관리자가 아님,채널을 찾을 수 없음", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionResponse.class)))
     })
     @GetMapping("/match/{channelLink}/{matchRound}")
-    public ResponseEntity loadMatchInfo(@PathVariable("channelLink") String channelLink, @PathVariable("matchRound") Integer matchRound) {
-
-        MatchRoundInfoDto matchInfoDtoList = matchQueryService.loadMatchPlayerList(channelLink, matchRound);
-
-        return new ResponseEntity<>(matchInfoDtoList, OK);
-
+    public ResponseEntity loadMatchInfo(@PathVariable("channelLink") String channelLink, @PathVariable("matchRound") Integer matchRound,
+                                        @RequestParam(value = "page", defaultValue = "0") int page,
+                                        @RequestParam(value = "size", required = false) Integer size,
+                                        WebRequest webRequest) {
+
+        return snapshotResponse(webRequest, channelLink, "round:" + matchRound + ":" + page + ":" + size,
+                () -> matchQueryService.getRoundView(channelLink, matchRound, page, size),
+                () -> Map.of("myGameId", matchQueryService.findMyGameId(channelLink, matchRound)));
     }
 
     @Operation(summary = "현재 진행중인 매치의 정보 조회.")
@@ -75,18 +92,23 @@ public class MatchQueryController {
     })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "매치가 조회됨", content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchScoreInfoDto.class))),
+            @ApiResponse(responseCode = "304", description = "대진표가 바뀌지 않음(If-None-Match 와 ETag 가 같음)"),
             @ApiResponse(responseCode = "404", description = "매치를 찾지 못함", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionResponse.class)))
     })
     @GetMapping("/channel/{channelLink}/match/{matchId}/player/info")
-    public ResponseEntity loadMatchScore(@PathVariable("channelLink") String channelLink, @PathVariable("matchId") Long matchId) {
+    public ResponseEntity loadMatchScore(@PathVariable("channelLink") String channelLink, @PathVariable("matchId") Long matchId,
+                                         WebRequest webRequest) {
 
-        MatchScoreInfoDto matchScoreInfoDto = matchQueryService.getMatchScoreInfo(channelLink, matchId);
+        //채팅은 대진표 버전과 따로 바뀌므로 마지막 채팅 시각을 ETag 에 포함한다.
+        String chatTag = matchChatService.findLastChatTag(channelLink, matchId);
 
-        List<MatchMessage> matchMessages = matchChatService.findMatchChatHistory(channelLink, matchId);
+        return snapshotResponse(webRequest, channelLink, "score:" + matchId + ":" + chatTag, () -> {
+            MatchScoreInfoDto matchScoreInfoDto = matchQueryService.getMatchScoreView(channelLink, matchId);
 
-        matchScoreInfoDto.setMatchMessages(matchMessages);
+            matchScoreInfoDto.setMatchMessages(matchChatService.findMatchChatHistory(channelLink, matchId));
 
-        return new ResponseEntity<>(matchScoreInfoDto, OK);
+            return matchScoreInfoDto;
+        }, () -> Map.of("requestMatchPlayerId", matchQueryService.findRequestMatchPlayerId(channelLink, matchId)));
     }
 
 
@@ -94,14 +116,14 @@ public class MatchQueryController {
     @Parameter(name = "roundCountList", description = "설정할려는 횟수 배열 결승전부터", example = "[3, 4, 2, 1]")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "경기 횟수 반환"),
+            @ApiResponse(responseCode = "304", description = "대진표가 바뀌지 않음(If-None-Match 와 ETag 가 같음)"),
             @ApiResponse(responseCode = "403", description = "매치 또는 채널을 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionResponse.class)))
     })
     @GetMapping("match/{channelLink}/count")
-    public ResponseEntity getMatchRoundCount(@PathVariable("channelLink") String channelLink) {
-
-        MatchSetCountDto matchSetCountDto = matchQueryService.getMatchSetCount(channelLink);
+    public ResponseEntity getMatchRoundCount(@PathVariable("channelLink") String channelLink, WebRequest webRequest) {
 
-        return new ResponseEntity(matchSetCountDto, OK);
+        return snapshotResponse(webRequest, channelLink, "count",
+                () -> matchQueryService.getMatchSetCount(channelLink));
     }
 
     @Operation(summary = "해당 채널 매치의 결과 - 이전 경기 결과를 가져옴 매치 세트 결과를 다 가져온다.")
@@ -110,14 +132,85 @@ public class MatchQueryController {
     })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "매치 결과를 리스트로 가져온다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GameResultDto.class))),
+            @ApiResponse(responseCode = "304", description = "대진표가 바뀌지 않음(If-None-Match 와 ETag 가 같음)"),
             @ApiResponse(responseCode = "404", description = "매치 세트를 찾을 수 없습니다.", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionResponse.class)))
     })
     @GetMapping("/match/{matchId}/result")
-    public ResponseEntity getGameResult(@PathVariable Long matchId) {
-        List<GameResultDto> gameResultList = matchQueryService.getGameResult(matchId);
+    public ResponseEntity getGameResult(@PathVariable Long matchId, WebRequest webRequest) {
+        String channelLink = bracketSnapshotCache.findChannelLink(matchId);
 
-        return new ResponseEntity(gameResultList, OK);
+        return snapshotResponse(webRequest, channelLink, "result:" + matchId,
+                () -> matchQueryService.getGameResult(matchId));
     }
 
+    @Operation(summary = "대진표 변경 다시 받기 - /match/{channelLink}/bracket 구독 중 sequence 를 건너뛰었을 때")
+    @Parameters(value = {
+            @Parameter(name = "channelLink", description = "해당 채널의 링크", example = "42aa1b11ab88"),
+            @Parameter(name = "after", description = "마지막으로 받은 sequence", example = "41")
+    })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "after 이후의 변경, resyncRequired 면 대진표를 다시 조회", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BracketDeltaSyncDto.class)))
+    })
+    @GetMapping("/match/{channelLink}/bracket/deltas")
+    public ResponseEntity getBracketDeltas(@PathVariable("channelLink") String channelLink,
+                                           @RequestParam(value = "after", defaultValue = "0") long after) {
+        BracketDeltaSyncDto bracketDeltaSyncDto = bracketDeltaStream.findDeltas(channelLink, after);
 
+        return new ResponseEntity<>(bracketDeltaSyncDto, OK);
+    }
+
+
+    /**
+     * If-None-Match 가 현재 ETag 와 같으면 조회 없이 304,
+     * 아니면 같은 버전으로 만들어 둔 공통 응답 바이트를 쓰거나 loader 로 새로 만들고, 요청자별 필드를 붙인다.
+     *
+     * @param loader       요청자와 상관없는 응답
+     * @param callerFields 요청자마다 다른 응답 필드, 304 가 아닐 때만 조회한다.
+     */
+    private ResponseEntity snapshotResponse(WebRequest webRequest, String channelLink, String resource,
+                                            Supplier<?> loader, Supplier<Map<String, ?>> callerFields) {
+        Optional<BracketETag> eTag = bracketSnapshotCache.findETag(channelLink, resource);
+
+        if (eTag.isEmpty()) {
+            Map<String, ?> fields = callerFields.get();
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(bracketSnapshotCache.createBody(loader.get(), fields));
+        }
+
+        if (webRequest.checkNotModified(eTag.get().value())) {
+            bracketSnapshotCache.recordNotModified();
+            return null;
+        }
+
+        Map<String, ?> fields = callerFields.get();
+        byte[] body = bracketSnapshotCache.getBody(channelLink, resource, eTag.get(), loader, fields);
+
+        return ResponseEntity.ok()
+                .eTag(eTag.get().value())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private ResponseEntity snapshotResponse(WebRequest webRequest, String channelLink, String resource, Supplier<?> loader) {
+        return snapshotResponse(webRequest, channelLink, resource, loader, Map::of);
+    }
+
+    //응답 바이트를 저장하지 않고 ETag 로 304 만 확인한다.
+    private ResponseEntity versionedResponse(WebRequest webRequest, String channelLink, String resource, Supplier<?> loader) {
+        Optional<BracketETag> eTag = bracketSnapshotCache.findETag(channelLink, resource);
+
+        if (eTag.isEmpty()) return new ResponseEntity<>(loader.get(), OK);
+
+        if (webRequest.checkNotModified(eTag.get().value())) {
+            bracketSnapshotCache.recordNotModified();
+            return null;
+        }
+
+        return ResponseEntity.ok()
+                .eTag(eTag.get().value())
+                .cacheControl(CacheControl.noCache())
+                .body(loader.get());
+    }
 }
@@ -0,0 +1,46 @@
+package leaguehub.leaguehubbackend.domain.match.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import leaguehub.leaguehubbackend.domain.match.entity.BracketDeltaType;
+import leaguehub.leaguehubbackend.domain.match.entity.Match;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStatus;
+
+import java.util.List;
+
+/**
+ * 대진표 변경 한 건
+ * 종류(type)에 필요한 값만 채우고 나머지는 보내지 않는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BracketDelta(BracketDeltaType type, Long matchId, Integer matchRound, MatchStatus matchStatus,
+                           Integer matchCurrentSet, Boolean alarm, List<BracketPlayerDelta> players) {
+
+    public static BracketDelta matchStatus(Match match) {
+        return new BracketDelta(BracketDeltaType.MATCH_STATUS, match.getId(), match.getMatchRound(), match.getMatchStatus(),
+                match.getMatchCurrentSet(), null, null);
+    }
+
+    public static BracketDelta score(Long matchId, List<BracketPlayerDelta> players) {
+        return new BracketDelta(BracketDeltaType.SCORE, matchId, null, null, null, null, players);
+    }
+
+    public static BracketDelta playerAdvanced(Long matchId, List<BracketPlayerDelta> players) {
+        return new BracketDelta(BracketDeltaType.PLAYER_ADVANCED, matchId, null, null, null, null, players);
+    }
+
+    public static BracketDelta playerStatus(Long matchId, BracketPlayerDelta player) {
+        return new BracketDelta(BracketDeltaType.PLAYER_STATUS, matchId, null, null, null, null, List.of(player));
+    }
+
+    public static BracketDelta alarm(Long matchId, boolean alarm) {
+        return new BracketDelta(BracketDeltaType.ALARM, matchId, null, null, null, alarm, null);
+    }
+
+    public static BracketDelta roundAssigned(Integer matchRound) {
+        return new BracketDelta(BracketDeltaType.ROUND_ASSIGNED, null, matchRound, null, null, null, null);
+    }
+
+    public static BracketDelta setCount() {
+        return new BracketDelta(BracketDeltaType.SET_COUNT, null, null, null, null, null, null);
+    }
+}
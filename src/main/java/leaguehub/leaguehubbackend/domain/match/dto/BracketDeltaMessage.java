@@ -0,0 +1,14 @@
+package leaguehub.leaguehubbackend.domain.match.dto;
+
+import java.util.List;
+
+/**
+ * /match/{channelLink}/bracket 으로 보내는 메시지
+ * 한 번의 변경(트랜잭션)에서 생긴 변경을 묶어서 보낸다.
+ *
+ * @param channelLink
+ * @param sequence    채널마다 1 씩 증가, 건너뛰었다면 /api/match/{channelLink}/bracket/deltas 로 다시 받는다.
+ * @param deltas
+ */
+public record BracketDeltaMessage(String channelLink, long sequence, List<BracketDelta> deltas) {
+}
@@ -0,0 +1,16 @@
+package leaguehub.leaguehubbackend.domain.match.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * @param sequence       채널의 현재 sequence
+ * @param resyncRequired 보관 중인 변경으로 채울 수 없어 대진표를 다시 조회해야 함
+ * @param messages       after 이후의 메시지, sequence 오름차순
+ */
+public record BracketDeltaSyncDto(
+        @Schema(description = "채널의 현재 sequence", example = "42") long sequence,
+        @Schema(description = "true 면 라운드 조회 API 로 대진표를 다시 받아야 함", example = "false") boolean resyncRequired,
+        @Schema(description = "after 이후의 변경 메시지") List<BracketDeltaMessage> messages) {
+}
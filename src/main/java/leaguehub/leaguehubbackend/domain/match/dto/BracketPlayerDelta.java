@@ -0,0 +1,24 @@
+package leaguehub.leaguehubbackend.domain.match.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStandingEntry;
+import leaguehub.leaguehubbackend.domain.match.entity.PlayerStatus;
+
+/**
+ * 대진표 변경 이벤트의 플레이어 한 명, 바뀐 값만 채운다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BracketPlayerDelta(Long matchPlayerId, Long participantId, Integer score, Integer matchRank,
+                                 PlayerStatus playerStatus, MatchPlayerResultStatus matchPlayerResultStatus) {
+
+    public static BracketPlayerDelta score(MatchStandingEntry entry) {
+        return new BracketPlayerDelta(entry.getMatchPlayerId(), entry.getParticipantId(), entry.getScore(), entry.getRank(),
+                null, entry.getMatchPlayerResultStatus());
+    }
+
+    public static BracketPlayerDelta status(Long matchPlayerId, Long participantId, PlayerStatus playerStatus,
+                                            MatchPlayerResultStatus matchPlayerResultStatus) {
+        return new BracketPlayerDelta(matchPlayerId, participantId, null, null, playerStatus, matchPlayerResultStatus);
+    }
+}
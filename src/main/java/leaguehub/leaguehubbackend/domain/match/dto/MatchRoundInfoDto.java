@@ -10,4 +10,10 @@ public class MatchRoundInfoDto {
     private String myGameId;
 
     private List<MatchInfoDto> matchInfoDtoList;
+
+    private Integer page;
+
+    private Integer totalPages;
+
+    private Long totalGroupCount;
 }
@@ -0,0 +1,21 @@
+package leaguehub.leaguehubbackend.domain.match.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchRoundScoreJobDto {
+
+    @Schema(description = "점수 업데이트 라운드", example = "1")
+    private Integer matchRound;
+
+    @Schema(description = "점수 업데이트 대상 매치 수", example = "32")
+    private Integer totalCount;
+
+    @Schema(description = "동시에 조회하는 매치 수", example = "8")
+    private Integer parallelism;
+}
@@ -0,0 +1,27 @@
+package leaguehub.leaguehubbackend.domain.match.dto;
+
+import leaguehub.leaguehubbackend.domain.match.entity.MatchScoreProgressStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchRoundScoreProgressDto {
+
+    private Long matchId;
+
+    private Integer matchSet;
+
+    private MatchScoreProgressStatus status;
+
+    //실패 사유
+    private String message;
+
+    private Integer completedCount;
+
+    private Integer failedCount;
+
+    private Integer totalCount;
+}
@@ -1,12 +1,16 @@
 package leaguehub.leaguehubbackend.domain.match.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MatchScoreInfoDto {
     private Long requestMatchPlayerId;
 
@@ -0,0 +1,35 @@
+package leaguehub.leaguehubbackend.domain.match.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Data
+public class MatchScoreTargetDto {
+
+    private Long matchId;
+
+    private Integer setCount;
+
+    //라이엇 매치 Id를 검색할 플레이어의 puuid (참가할 때 저장된 값)
+    private List<String> searchPuuids = new ArrayList<>();
+
+    //저장된 puuid가 없어 게임 Id로 puuid를 조회해야 하는 플레이어
+    private List<String> searchGameIds = new ArrayList<>();
+
+    //puuid -> gameId (대소문자 구분 없이 조회)
+    private Map<String, String> gameIdByPuuid = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    //이전 세트에 이미 반영된 라이엇 매치 Id
+    private Set<String> scoredRiotMatchUuids = new HashSet<>();
+
+    public MatchScoreTargetDto(Long matchId, Integer setCount) {
+        this.matchId = matchId;
+        this.setCount = setCount;
+    }
+}
@@ -0,0 +1,10 @@
+package leaguehub.leaguehubbackend.domain.match.dto;
+
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStatus;
+
+/**
+ * 라운드 조회용 매치 한 행, 엔티티 대신 필요한 컬럼만 바로 읽는다.
+ */
+public record MatchViewRow(Long matchId, String matchName, MatchStatus matchStatus, Integer matchRound,
+                           Integer matchCurrentSet, Integer matchSetCount, Boolean alarm) {
+}
@@ -3,6 +3,7 @@ package leaguehub.leaguehubbackend.domain.match.dto;
 import lombok.Data;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 public class RiotAPIDto {
@@ -11,8 +12,12 @@ public class RiotAPIDto {
 
     private List<MatchRankResultDto> matchRankResultDtoList;
 
-    public RiotAPIDto(String matchUuid, List<MatchRankResultDto> matchRankResultDtoList) {
+    //저장된 puuid가 없어 이번에 조회한 플레이어의 gameId -> puuid
+    private Map<String, String> resolvedPuuidByGameId;
+
+    public RiotAPIDto(String matchUuid, List<MatchRankResultDto> matchRankResultDtoList, Map<String, String> resolvedPuuidByGameId) {
         this.matchUuid = matchUuid;
         this.matchRankResultDtoList = matchRankResultDtoList;
+        this.resolvedPuuidByGameId = resolvedPuuidByGameId;
     }
 }
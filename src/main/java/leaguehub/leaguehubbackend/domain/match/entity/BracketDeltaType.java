@@ -0,0 +1,21 @@
+package leaguehub.leaguehubbackend.domain.match.entity;
+
+/**
+ * 대진표 변경 이벤트 종류
+ */
+public enum BracketDeltaType {
+    //매치 상태, 현재 세트
+    MATCH_STATUS,
+    //세트 결과 반영 후 점수, 순위
+    SCORE,
+    //매치 종료 후 다음 라운드 진출자
+    PLAYER_ADVANCED,
+    //체크인, 실격
+    PLAYER_STATUS,
+    //관리자 호출 알람
+    ALARM,
+    //라운드 경기 배정, 라운드 전체를 다시 조회
+    ROUND_ASSIGNED,
+    //경기 횟수 설정, 경기 횟수를 다시 조회
+    SET_COUNT
+}
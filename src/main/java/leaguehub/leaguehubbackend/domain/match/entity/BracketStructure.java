@@ -0,0 +1,88 @@
+package leaguehub.leaguehubbackend.domain.match.entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 최대 참가자 수로 계산한 대진표 구조
+ * 한 매치(그룹)는 최대 8명이고 그룹마다 절반이 다음 라운드로 진출한다.
+ * 참가자 수가 8의 배수가 아니면 인원이 적은 그룹을 두고, 8명 이하가 남은 라운드가 결승이다.
+ * 예) 16 -> [16, 8], 100 -> [100, 52, 28, 16, 8]
+ */
+public final class BracketStructure {
+
+    public static final int MAX_GROUP_PLAYERS = 8;
+    private static final int ADVANCE_PER_GROUP = MAX_GROUP_PLAYERS / 2;
+    private static final int ALPHABET_COUNT = 26;
+
+    //1 라운드부터 순서대로 라운드 시작 인원
+    private final List<Integer> roundPlayers;
+
+    private BracketStructure(List<Integer> roundPlayers) {
+        this.roundPlayers = Collections.unmodifiableList(roundPlayers);
+    }
+
+    public static BracketStructure of(int maxPlayer) {
+        List<Integer> roundPlayers = new ArrayList<>();
+
+        if (maxPlayer >= MAX_GROUP_PLAYERS) {
+            int players = maxPlayer;
+            roundPlayers.add(players);
+
+            while (players > MAX_GROUP_PLAYERS) {
+                players = groupCountOf(players) * ADVANCE_PER_GROUP;
+                roundPlayers.add(players);
+            }
+        }
+
+        return new BracketStructure(roundPlayers);
+    }
+
+    public int getRoundCount() {
+        return roundPlayers.size();
+    }
+
+    /**
+     * @return 1 부터 라운드 수까지
+     */
+    public List<Integer> getRoundList() {
+        return IntStream.rangeClosed(1, getRoundCount())
+                .boxed()
+                .collect(Collectors.toList());
+    }
+
+    public boolean hasRound(int matchRound) {
+        return matchRound >= 1 && matchRound <= getRoundCount();
+    }
+
+    public int getPlayerCount(int matchRound) {
+        return roundPlayers.get(matchRound - 1);
+    }
+
+    public int getGroupCount(int matchRound) {
+        return groupCountOf(getPlayerCount(matchRound));
+    }
+
+    /**
+     * 그룹 이름, 26 번째 그룹 이후는 AA, AB ... 로 이어간다.
+     *
+     * @param groupIndex 1 부터 시작
+     * @return Group A, Group B ... Group AA
+     */
+    public static String getGroupName(int groupIndex) {
+        StringBuilder name = new StringBuilder();
+
+        for (int index = groupIndex; index > 0; index = (index - 1) / ALPHABET_COUNT) {
+            name.insert(0, (char) ('A' + (index - 1) % ALPHABET_COUNT));
+        }
+
+        return "Group " + name;
+    }
+
+    private static int groupCountOf(int players) {
+        return (players + MAX_GROUP_PLAYERS - 1) / MAX_GROUP_PLAYERS;
+    }
+}
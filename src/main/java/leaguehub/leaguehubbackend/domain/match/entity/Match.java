@@ -15,6 +15,8 @@ import static jakarta.persistence.FetchType.LAZY;
 @Entity
 public class Match extends BaseTimeEntity {
 
+    public static final int DEFAULT_MATCH_SET_COUNT = 3;
+
     @Id
     @Column(name = "match_id")
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -35,6 +37,9 @@ public class Match extends BaseTimeEntity {
 
     private boolean alarm;
 
+    @Version
+    private Long version;
+
     @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "channel_id")
     private Channel channel;
@@ -54,7 +59,7 @@ public class Match extends BaseTimeEntity {
         match.matchName = matchName;
         match.matchPasswd = GlobalConstant.NO_DATA.getData();
         match.matchCurrentSet = 1;
-        match.matchSetCount = 3;
+        match.matchSetCount = DEFAULT_MATCH_SET_COUNT;
         match.channel = channel;
         match.alarm = false;
 
@@ -34,6 +34,9 @@ public class MatchPlayer extends BaseTimeEntity {
     @JoinColumn(name = "match_id")
     private Match match;
 
+    @Version
+    private Long version;
+
     public static MatchPlayer createMatchPlayer(Participant participant, Match match){
         MatchPlayer matchPlayer = new MatchPlayer();
         matchPlayer.playerStatus = PlayerStatus.WAITING;
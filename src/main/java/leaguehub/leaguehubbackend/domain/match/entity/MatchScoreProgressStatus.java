@@ -0,0 +1,6 @@
+package leaguehub.leaguehubbackend.domain.match.entity;
+
+public enum MatchScoreProgressStatus {
+    SUCCESS,
+    FAILED
+}
@@ -29,6 +29,9 @@ public class MatchSet extends BaseTimeEntity {
 
     private Integer setCount;
 
+    @Version
+    private Long version;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "matchSet", cascade = CascadeType.REMOVE, orphanRemoval = true)
     List<MatchRank> matchRankList = new ArrayList<>();
 
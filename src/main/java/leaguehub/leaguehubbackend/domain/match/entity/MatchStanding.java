@@ -0,0 +1,148 @@
+package leaguehub.leaguehubbackend.domain.match.entity;
+
+import jakarta.persistence.*;
+import leaguehub.leaguehubbackend.global.audit.BaseTimeEntity;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+/**
+ * 매치 한 개의 누적 순위표
+ * 세트 점수가 반영될 때 같은 트랜잭션에서 함께 갱신되어
+ * 점수판 조회와 진출 / 탈락 결정을 MatchRank 재집계 없이 한 행으로 처리한다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchStanding extends BaseTimeEntity {
+
+    private static final int INITIAL_RANK = 1;
+
+    @Id
+    @Column(name = "match_standing_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = LAZY)
+    @JoinColumn(name = "match_id", unique = true)
+    private Match match;
+
+    //마지막으로 반영된 세트, 반영 전이면 0
+    private Integer lastSetCount;
+
+    //실격자를 포함한 매치 전체에서 가장 많은 1등 횟수
+    private Integer maxFirstPlaceCount;
+
+    //실격자를 포함한 매치 플레이어 전체, 점수 내림차순, 게임 Id 순서로 정렬
+    @Convert(converter = MatchStandingEntryListConverter.class)
+    @Column(name = "standing_entries", columnDefinition = "TEXT")
+    private List<MatchStandingEntry> entries = new ArrayList<>();
+
+    @Version
+    private Long version;
+
+    public static MatchStanding createMatchStanding(Match match, List<MatchStandingEntry> entries) {
+        MatchStanding matchStanding = new MatchStanding();
+        matchStanding.match = match;
+        matchStanding.lastSetCount = 0;
+        matchStanding.maxFirstPlaceCount = 0;
+        matchStanding.entries = new ArrayList<>(entries);
+        matchStanding.updateRank();
+
+        return matchStanding;
+    }
+
+    /**
+     * 점수가 반영된 세트의 등수를 누적한다.
+     *
+     * @param setCount
+     * @param placementByGameId 실격을 제외한 플레이어의 게임 Id -> 등수
+     */
+    public void applyMatchSet(Integer setCount, Map<String, Integer> placementByGameId) {
+        recordPlacements(setCount, placementByGameId, true);
+
+        entries.stream()
+                .filter(entry -> !entry.isDisqualified())
+                .forEach(entry -> entry.updatePlayerStatus(PlayerStatus.WAITING));
+
+        updateRank();
+    }
+
+    /**
+     * 이미 점수에 반영된 세트의 1등 횟수, 마지막 등수만 복원한다.
+     * MatchRank 로 순위표를 다시 만들 때 사용한다.
+     *
+     * @param setCount
+     * @param placementByGameId 게임 Id -> 등수
+     */
+    public void restoreMatchSet(Integer setCount, Map<String, Integer> placementByGameId) {
+        recordPlacements(setCount, placementByGameId, false);
+    }
+
+    public void updatePlayerStatus(Long matchPlayerId, PlayerStatus playerStatus) {
+        findEntryByMatchPlayerId(matchPlayerId)
+                .ifPresent(entry -> entry.updatePlayerStatus(playerStatus));
+    }
+
+    public void updateMatchPlayerResultStatus(Long participantId, MatchPlayerResultStatus matchPlayerResultStatus) {
+        findEntryByParticipantId(participantId)
+                .ifPresent(entry -> entry.updateMatchPlayerResultStatus(matchPlayerResultStatus));
+    }
+
+    public void disqualify(Long participantId) {
+        findEntryByParticipantId(participantId)
+                .ifPresent(MatchStandingEntry::disqualify);
+        updateRank();
+    }
+
+    public Optional<MatchStandingEntry> findEntryByParticipantId(Long participantId) {
+        return entries.stream()
+                .filter(entry -> entry.getParticipantId().equals(participantId))
+                .findFirst();
+    }
+
+    private Optional<MatchStandingEntry> findEntryByMatchPlayerId(Long matchPlayerId) {
+        return entries.stream()
+                .filter(entry -> entry.getMatchPlayerId().equals(matchPlayerId))
+                .findFirst();
+    }
+
+    private void recordPlacements(Integer setCount, Map<String, Integer> placementByGameId, boolean addScore) {
+        //이미 반영된 세트는 다시 누적하지 않는다.
+        if (setCount <= lastSetCount) return;
+
+        entries.forEach(entry -> {
+            entry.recordPlacement(placementByGameId.get(entry.getGameId()), addScore);
+            maxFirstPlaceCount = Math.max(maxFirstPlaceCount, entry.getFirstPlaceCount());
+        });
+
+        this.lastSetCount = setCount;
+    }
+
+    /**
+     * 점수 내림차순, 게임 Id 순서로 정렬하고 같은 점수는 같은 순위를 준다.
+     */
+    private void updateRank() {
+        List<MatchStandingEntry> rankedEntries = new ArrayList<>(entries);
+        rankedEntries.sort(Comparator.comparingInt(MatchStandingEntry::getScore).reversed()
+                .thenComparing(MatchStandingEntry::getGameId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int rank = INITIAL_RANK;
+        for (int i = 0; i < rankedEntries.size(); i++) {
+            if (i > 0 && rankedEntries.get(i).getScore() != rankedEntries.get(i - 1).getScore()) {
+                rank = i + 1;
+            }
+            rankedEntries.get(i).updateRank(rank);
+        }
+
+        this.entries = rankedEntries;
+    }
+}
@@ -0,0 +1,101 @@
+package leaguehub.leaguehubbackend.domain.match.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 매치 순위표(MatchStanding)의 플레이어 한 명
+ * 점수판 표시에 필요한 값과 진출 / 탈락 결정에 필요한 누적 값을 함께 가진다.
+ */
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+public class MatchStandingEntry {
+
+    private Long matchPlayerId;
+
+    private Long participantId;
+
+    private String gameId;
+
+    private String gameTier;
+
+    private String profileSrc;
+
+    private PlayerStatus playerStatus;
+
+    private MatchPlayerResultStatus matchPlayerResultStatus;
+
+    private int score;
+
+    private int firstPlaceCount;
+
+    //가장 최근에 반영된 세트의 등수, 그 세트에 없었다면 null
+    private Integer lastPlacement;
+
+    private int rank;
+
+    @Builder
+    public MatchStandingEntry(Long matchPlayerId, Long participantId, String gameId, String gameTier, String profileSrc,
+                              PlayerStatus playerStatus, MatchPlayerResultStatus matchPlayerResultStatus, int score) {
+        this.matchPlayerId = matchPlayerId;
+        this.participantId = participantId;
+        this.gameId = gameId;
+        this.gameTier = gameTier;
+        this.profileSrc = profileSrc;
+        this.playerStatus = playerStatus;
+        this.matchPlayerResultStatus = matchPlayerResultStatus;
+        this.score = score;
+    }
+
+    public static MatchStandingEntry createMatchStandingEntry(MatchPlayer matchPlayer) {
+        return MatchStandingEntry.builder()
+                .matchPlayerId(matchPlayer.getId())
+                .participantId(matchPlayer.getParticipant().getId())
+                .gameId(matchPlayer.getParticipant().getGameId())
+                .gameTier(matchPlayer.getParticipant().getGameTier())
+                .profileSrc(matchPlayer.getParticipant().getProfileImageUrl())
+                .playerStatus(matchPlayer.getPlayerStatus())
+                .matchPlayerResultStatus(matchPlayer.getMatchPlayerResultStatus())
+                .score(matchPlayer.getPlayerScore())
+                .build();
+    }
+
+    @JsonIgnore
+    public boolean isDisqualified() {
+        return matchPlayerResultStatus == MatchPlayerResultStatus.DISQUALIFICATION;
+    }
+
+    /**
+     * @param placement 세트 등수, 그 세트에 없었다면 null
+     * @param addScore  MatchPlayer 점수에 이미 반영된 세트를 복원할 때는 false
+     */
+    void recordPlacement(Integer placement, boolean addScore) {
+        this.lastPlacement = placement;
+        if (placement == null) return;
+
+        if (addScore) this.score += 9 - placement;
+        if (placement == 1) this.firstPlaceCount++;
+    }
+
+    void updatePlayerStatus(PlayerStatus playerStatus) {
+        this.playerStatus = playerStatus;
+    }
+
+    void updateMatchPlayerResultStatus(MatchPlayerResultStatus matchPlayerResultStatus) {
+        this.matchPlayerResultStatus = matchPlayerResultStatus;
+    }
+
+    void disqualify() {
+        this.playerStatus = PlayerStatus.DISQUALIFICATION;
+        this.matchPlayerResultStatus = MatchPlayerResultStatus.DISQUALIFICATION;
+        this.score = -1;
+    }
+
+    void updateRank(int rank) {
+        this.rank = rank;
+    }
+}
@@ -0,0 +1,43 @@
+package leaguehub.leaguehubbackend.domain.match.entity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 순위표 플레이어 목록을 한 컬럼의 JSON 으로 저장
+ */
+@Converter
+public class MatchStandingEntryListConverter implements AttributeConverter<List<MatchStandingEntry>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final TypeReference<List<MatchStandingEntry>> ENTRY_LIST_TYPE = new TypeReference<>() {
+    };
+
+    @Override
+    public String convertToDatabaseColumn(List<MatchStandingEntry> entries) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(entries == null ? List.of() : entries);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("순위표 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public List<MatchStandingEntry> convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) return new ArrayList<>();
+
+        try {
+            return OBJECT_MAPPER.readValue(json, ENTRY_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("순위표 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package leaguehub.leaguehubbackend.domain.match.entity;
+
+/**
+ * 진출 경계에서 동점자가 나왔을 때 적용하는 기준 (설정한 순서대로 적용)
+ */
+public enum MatchTieBreaker {
+    //1등을 가장 많이 한 플레이어
+    MOST_FIRST_PLACES,
+    //가장 최근 세트에서 등수가 높은 플레이어
+    LAST_SET_PLACEMENT
+}
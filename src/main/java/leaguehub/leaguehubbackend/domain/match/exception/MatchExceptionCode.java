@@ -17,7 +17,8 @@ public enum MatchExceptionCode implements ExceptionCode {
     MATCH_NOT_ENOUGH_PLAYER(BAD_REQUEST, "MA-C-003", "매치 인원수가 충분하지 않습니다."),
     MATCH_ALREADY_UPDATE(BAD_REQUEST, "MA-C-004", "이미 매치의 점수가 업데이트 되었습니다."),
     MATCH_PLAYER_NOT_FOUND(NOT_FOUND, "MA-C-005", "해당 매치 플레이어가 없습니다."),
-    MATCH_NOT_END(BAD_REQUEST, "MA-C-006", "이전 경기가 끝나지 않았습니다.");
+    MATCH_NOT_END(BAD_REQUEST, "MA-C-006", "이전 경기가 끝나지 않았습니다."),
+    MATCH_SCORE_JOB_RUNNING(BAD_REQUEST, "MA-C-007", "해당 라운드의 점수 업데이트가 이미 진행 중입니다.");
 
     private final HttpStatus httpStatus;
     private final String code;
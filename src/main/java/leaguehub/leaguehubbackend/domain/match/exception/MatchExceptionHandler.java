@@ -78,4 +78,17 @@ public class MatchExceptionHandler {
                 exceptionCode.getHttpStatus()
         );
     }
+
+    @ExceptionHandler(MatchScoreJobRunningException.class)
+    public ResponseEntity<ExceptionResponse> matchScoreJobRunningException(
+            MatchScoreJobRunningException e
+    ) {
+        ExceptionCode exceptionCode = e.getExceptionCode();
+        log.error("{}", exceptionCode.getMessage());
+
+        return new ResponseEntity<>(
+                new ExceptionResponse(exceptionCode),
+                exceptionCode.getHttpStatus()
+        );
+    }
 }
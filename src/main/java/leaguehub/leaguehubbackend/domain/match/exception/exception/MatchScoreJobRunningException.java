@@ -0,0 +1,18 @@
+package leaguehub.leaguehubbackend.domain.match.exception.exception;
+
+import leaguehub.leaguehubbackend.global.exception.global.ExceptionCode;
+
+import static leaguehub.leaguehubbackend.domain.match.exception.MatchExceptionCode.MATCH_SCORE_JOB_RUNNING;
+
+public class MatchScoreJobRunningException extends RuntimeException {
+    private final ExceptionCode exceptionCode;
+
+    public MatchScoreJobRunningException() {
+        super(MATCH_SCORE_JOB_RUNNING.getMessage());
+        this.exceptionCode = MATCH_SCORE_JOB_RUNNING;
+    }
+
+    public ExceptionCode getExceptionCode() {
+        return exceptionCode;
+    }
+}
@@ -0,0 +1,133 @@
+package leaguehub.leaguehubbackend.domain.match.repository;
+
+import leaguehub.leaguehubbackend.domain.match.entity.Match;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchSet;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStanding;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStandingEntryListConverter;
+import leaguehub.leaguehubbackend.domain.match.entity.PlayerStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대진표 생성, 경기 배정 시 많은 행을 한 번에 저장하는 JDBC 배치
+ * IDENTITY 키 전략에서는 Hibernate 가 INSERT 를 묶지 못하므로 대량 저장 경로만 JDBC 로 묶어서 보낸다.
+ * 각 메서드는 저장한 행 수를 반환한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchBulkJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    //match 는 MySQL 예약어
+    private static final String INSERT_MATCH_SQL =
+            "insert into `match` (match_status, match_round, match_name, match_passwd, match_set_count, match_current_set, " +
+                    "alarm, channel_id, version, created_date, modified_date) values (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String INSERT_MATCH_SET_SQL =
+            "insert into match_set (match_id, update_score, set_count, version, created_date, modified_date) values (?, ?, ?, 0, ?, ?)";
+
+    private static final String INSERT_MATCH_PLAYER_SQL =
+            "insert into match_player (player_score, player_status, match_player_result_status, participant_id, match_id, " +
+                    "version, created_date, modified_date) values (?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String INSERT_MATCH_STANDING_SQL =
+            "insert into match_standing (match_id, last_set_count, max_first_place_count, standing_entries, " +
+                    "version, created_date, modified_date) values (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MatchStandingEntryListConverter matchStandingEntryListConverter = new MatchStandingEntryListConverter();
+
+
+    /**
+     * Match.createMatch 로 만든 매치를 저장한다.
+     *
+     * @param matches
+     * @return 저장한 행 수
+     */
+    public int insertMatches(List<Match> matches) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_MATCH_SQL, matches, BATCH_SIZE, (ps, match) -> {
+            ps.setString(1, match.getMatchStatus().name());
+            ps.setInt(2, match.getMatchRound());
+            ps.setString(3, match.getMatchName());
+            ps.setString(4, match.getMatchPasswd());
+            ps.setInt(5, match.getMatchSetCount());
+            ps.setInt(6, match.getMatchCurrentSet());
+            ps.setBoolean(7, match.isAlarm());
+            ps.setLong(8, match.getChannel().getId());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+
+        return matches.size();
+    }
+
+    /**
+     * MatchSet.createMatchSet 으로 만든 세트를 저장한다.
+     *
+     * @param matchSets
+     * @return 저장한 행 수
+     */
+    public int insertMatchSets(List<MatchSet> matchSets) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_MATCH_SET_SQL, matchSets, BATCH_SIZE, (ps, matchSet) -> {
+            ps.setLong(1, matchSet.getMatch().getId());
+            ps.setBoolean(2, matchSet.getUpdateScore());
+            ps.setInt(3, matchSet.getSetCount());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+
+        return matchSets.size();
+    }
+
+    /**
+     * MatchPlayer.createMatchPlayer 와 같은 초기값으로 매치 플레이어를 저장한다.
+     *
+     * @param assignments 매치 Id, 참가자 Id 쌍
+     * @return 저장한 행 수
+     */
+    public int insertMatchPlayers(List<MatchPlayerAssignment> assignments) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_MATCH_PLAYER_SQL, assignments, BATCH_SIZE, (ps, assignment) -> {
+            ps.setInt(1, 0);
+            ps.setString(2, PlayerStatus.WAITING.name());
+            ps.setString(3, MatchPlayerResultStatus.PROGRESS.name());
+            ps.setLong(4, assignment.participantId());
+            ps.setLong(5, assignment.matchId());
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+
+        return assignments.size();
+    }
+
+    public int insertMatchStandings(List<MatchStanding> matchStandings) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_MATCH_STANDING_SQL, matchStandings, BATCH_SIZE, (ps, matchStanding) -> {
+            ps.setLong(1, matchStanding.getMatch().getId());
+            ps.setInt(2, matchStanding.getLastSetCount());
+            ps.setInt(3, matchStanding.getMaxFirstPlaceCount());
+            ps.setString(4, matchStandingEntryListConverter.convertToDatabaseColumn(matchStanding.getEntries()));
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        return matchStandings.size();
+    }
+
+
+    public record MatchPlayerAssignment(Long matchId, Long participantId) {
+    }
+}
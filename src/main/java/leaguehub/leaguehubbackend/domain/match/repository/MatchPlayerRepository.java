@@ -1,6 +1,11 @@
 package leaguehub.leaguehubbackend.domain.match.repository;
 
+import leaguehub.leaguehubbackend.domain.match.dto.MatchPlayerInfo;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchSetStatusMessage;
 import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayer;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus;
+import leaguehub.leaguehubbackend.domain.match.entity.PlayerStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -27,6 +32,61 @@ public interface MatchPlayerRepository extends JpaRepository<MatchPlayer, Long>
             "order by mp.playerScore desc, mp.participant.gameId")
     List<MatchPlayer> findMatchPlayersWithoutDisqualification(@Param("matchId") Long matchId);
 
+    @Query("select mp from MatchPlayer mp join fetch mp.participant where mp.match.id in :matchIds")
+    List<MatchPlayer> findAllWithParticipantByMatchIds(@Param("matchIds") List<Long> matchIds);
+
+    /**
+     * 라운드 진출 처리에서 탈락시킬 참가자 Id
+     * 매치별로 점수, 게임 Id 순으로 정렬했을 때 앞선 진행 중(PROGRESS) 참가자 수를 윈도우 함수로 세고
+     * 이미 progressCount 명이 앞에 있으면 실격자를 제외하고, 그 전이면 진행 중이 아닌 참가자를 탈락시킨다.
+     * 이미 탈락한 참가자는 제외한다.
+     *
+     * @param matchIds      라운드의 매치 Id
+     * @param progressCount 매치별 진출 인원
+     * @return 탈락시킬 참가자 Id
+     */
+    @Query(value = "select ranked.participant_id from (" +
+            "select mp.participant_id, p.participant_status, " +
+            "coalesce(sum(case when p.participant_status = 'PROGRESS' then 1 else 0 end) over (" +
+            "partition by mp.match_id order by mp.player_score desc, p.game_id " +
+            "rows between unbounded preceding and 1 preceding), 0) as progress_before " +
+            "from match_player mp join participant p on p.participant_id = mp.participant_id " +
+            "where mp.match_id in (:matchIds)) ranked " +
+            "where ranked.participant_status <> 'DROPOUT' " +
+            "and ((ranked.progress_before >= :progressCount and ranked.participant_status <> 'DISQUALIFICATION') " +
+            "or (ranked.progress_before < :progressCount and ranked.participant_status <> 'PROGRESS'))",
+            nativeQuery = true)
+    List<Long> findDropoutParticipantIdsByMatchIds(@Param("matchIds") List<Long> matchIds,
+                                                   @Param("progressCount") int progressCount);
+
+    /**
+     * 라운드 조회용 매치 플레이어, 엔티티를 만들지 않고 필요한 컬럼만 읽는다.
+     * 순위는 매치별 점수 내림차순 rank() 로 매겨 동점자는 같은 순위, 다음 순위는 건너뛴다(1, 2, 2, 4).
+     *
+     * @param matchIds 조회할 매치 Id
+     * @return 매치 Id, 점수 내림차순, 게임 Id 순
+     */
+    @Query(value = "select mp.match_id as matchId, mp.match_player_id as matchPlayerId, p.participant_id as participantId, " +
+            "p.game_id as gameId, p.game_tier as gameTier, mp.player_status as playerStatus, mp.player_score as score, " +
+            "mp.match_player_result_status as matchPlayerResultStatus, p.profile_image_url as profileSrc, " +
+            "rank() over (partition by mp.match_id order by mp.player_score desc) as matchRank " +
+            "from match_player mp join participant p on p.participant_id = mp.participant_id " +
+            "where mp.match_id in (:matchIds) " +
+            "order by mp.match_id, mp.player_score desc, p.game_id",
+            nativeQuery = true)
+    List<MatchPlayerInfoRow> findMatchPlayerInfoRows(@Param("matchIds") List<Long> matchIds);
+
+    @Query("select new leaguehub.leaguehubbackend.domain.match.dto.MatchSetStatusMessage(mp.id, mp.playerStatus) " +
+            "from MatchPlayer mp where mp.match.id = :matchId")
+    List<MatchSetStatusMessage> findPlayerStatusByMatchId(@Param("matchId") Long matchId);
+
+    @Query("select m.id as matchId, m.matchRound as matchRound from MatchPlayer mp join mp.match m " +
+            "where mp.participant.id = :participantId " +
+            "and m.matchStatus <> leaguehub.leaguehubbackend.domain.match.entity.MatchStatus.END order by m.id")
+    List<MyMatchRow> findMyMatchRows(@Param("participantId") Long participantId, Pageable pageable);
+
+    boolean existsByParticipant_IdAndMatch_MatchRound(Long participantId, Integer matchRound);
+
     Optional<MatchPlayer> findByParticipantIdAndMatchId(Long participantId, Long matchId);
 
 
@@ -34,5 +94,47 @@ public interface MatchPlayerRepository extends JpaRepository<MatchPlayer, Long>
 
     Optional<MatchPlayer> findMatchPlayerByIdAndMatch_Id(@Param("matchPlayerId") Long matchPlayerId, @Param("matchId") Long matchId);
 
+    interface MyMatchRow {
+
+        Long getMatchId();
+
+        Integer getMatchRound();
+    }
+
+    interface MatchPlayerInfoRow {
+
+        Long getMatchId();
+
+        Long getMatchPlayerId();
+
+        Long getParticipantId();
+
+        String getGameId();
+
+        String getGameTier();
+
+        PlayerStatus getPlayerStatus();
+
+        Integer getScore();
+
+        MatchPlayerResultStatus getMatchPlayerResultStatus();
+
+        String getProfileSrc();
+
+        Integer getMatchRank();
 
-}
\ No newline at end of file
+        default MatchPlayerInfo toMatchPlayerInfo() {
+            return MatchPlayerInfo.builder()
+                    .matchPlayerId(getMatchPlayerId())
+                    .participantId(getParticipantId())
+                    .gameId(getGameId())
+                    .gameTier(getGameTier())
+                    .playerStatus(getPlayerStatus())
+                    .score(getScore())
+                    .matchPlayerResultStatus(getMatchPlayerResultStatus())
+                    .profileSrc(getProfileSrc())
+                    .matchRank(getMatchRank())
+                    .build();
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package leaguehub.leaguehubbackend.domain.match.repository;
 
+import leaguehub.leaguehubbackend.domain.match.dto.MatchViewRow;
 import leaguehub.leaguehubbackend.domain.match.entity.Match;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,9 +16,51 @@ import java.util.Optional;
 public interface MatchRepository extends JpaRepository<Match, Long> {
     List<Match> findAllByChannel_ChannelLinkAndMatchRoundOrderByMatchName(String channelLink, Integer matchRound);
 
+    //그룹 이름은 26 번째 이후 AA, AB ... 로 이어지므로 생성 순서(Id)로 정렬한다.
+    List<Match> findAllByChannel_ChannelLinkAndMatchRoundOrderById(String channelLink, Integer matchRound);
+
+    @Query(value = "select new leaguehub.leaguehubbackend.domain.match.dto.MatchViewRow(" +
+            "m.id, m.matchName, m.matchStatus, m.matchRound, m.matchCurrentSet, m.matchSetCount, m.alarm) " +
+            "from Match m where m.channel.channelLink = :channelLink and m.matchRound = :matchRound",
+            countQuery = "select count(m) from Match m where m.channel.channelLink = :channelLink and m.matchRound = :matchRound")
+    Page<MatchViewRow> findMatchViewRows(@Param("channelLink") String channelLink, @Param("matchRound") Integer matchRound,
+                                         Pageable pageable);
+
     List<Match> findAllByChannel_ChannelLink(String channelLink);
 
+    @Query("select m.channel.channelLink from Match m where m.id = :matchId")
+    Optional<String> findChannelLinkById(@Param("matchId") Long matchId);
+
+    @Query("select m.id from Match m where m.channel.id = :channelId")
+    List<Long> findIdsByChannelId(@Param("channelId") Long channelId);
+
+    //maxRound 까지의 라운드 중 진행 중인 매치가 있는 가장 높은 라운드
+    @Query("select max(m.matchRound) from Match m where m.channel.id = :channelId " +
+            "and m.matchStatus = leaguehub.leaguehubbackend.domain.match.entity.MatchStatus.PROGRESS and m.matchRound <= :maxRound")
+    Optional<Integer> findLiveRound(@Param("channelId") Long channelId, @Param("maxRound") Integer maxRound);
+
     List<Match> findAllByChannel_ChannelLinkOrderByMatchRoundDesc(String channelLink);
 
     Optional<Match> findById(Long matchId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Match m set m.matchSetCount = :matchSetCount, m.version = m.version + 1 " +
+            "where m.channel.id = :channelId and m.matchRound = :matchRound")
+    int updateMatchSetCountByChannelIdAndMatchRound(@Param("channelId") Long channelId, @Param("matchRound") Integer matchRound,
+                                                    @Param("matchSetCount") Integer matchSetCount);
+
+    @Query("select m.matchRound as matchRound, max(m.matchSetCount) as matchSetCount from Match m " +
+            "where m.channel.id = :channelId group by m.matchRound")
+    List<RoundMatchSetCount> findRoundMatchSetCounts(@Param("channelId") Long channelId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Match m set m.matchStatus = :matchStatus, m.version = m.version + 1 where m.id in :matchIds")
+    int updateMatchStatusByIds(@Param("matchIds") List<Long> matchIds, @Param("matchStatus") MatchStatus matchStatus);
+
+    interface RoundMatchSetCount {
+
+        Integer getMatchRound();
+
+        Integer getMatchSetCount();
+    }
 }
@@ -1,6 +1,7 @@
 package leaguehub.leaguehubbackend.domain.match.repository;
 
 import leaguehub.leaguehubbackend.domain.match.entity.MatchSet;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,4 +17,18 @@ public interface MatchSetRepository extends JpaRepository<MatchSet, Long> {
     @Query("select distinct ms from MatchSet ms join fetch ms.matchRankList where ms.match.id = :matchId")
     List<MatchSet> findMatchSetsByMatch_Id(@Param("matchId") Long matchId);
 
+    @Query("select ms from MatchSet ms join fetch ms.match m " +
+            "where m.matchStatus = :matchStatus and ms.updateScore = false and ms.setCount = m.matchCurrentSet")
+    List<MatchSet> findUnscoredCurrentMatchSets(@Param("matchStatus") MatchStatus matchStatus);
+
+    @Query("select ms from MatchSet ms join fetch ms.match m " +
+            "where m.channel.channelLink = :channelLink and m.matchRound = :matchRound " +
+            "and m.matchStatus = :matchStatus and ms.updateScore = false and ms.setCount = m.matchCurrentSet")
+    List<MatchSet> findUnscoredCurrentMatchSetsByRound(@Param("channelLink") String channelLink,
+                                                       @Param("matchRound") Integer matchRound,
+                                                       @Param("matchStatus") MatchStatus matchStatus);
+
+    @Query("select ms.riotMatchUuid from MatchSet ms where ms.match.id = :matchId and ms.riotMatchUuid is not null")
+    List<String> findRiotMatchUuidsByMatchId(@Param("matchId") Long matchId);
+
 }
\ No newline at end of file
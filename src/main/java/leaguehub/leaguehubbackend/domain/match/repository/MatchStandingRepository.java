@@ -0,0 +1,16 @@
+package leaguehub.leaguehubbackend.domain.match.repository;
+
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStanding;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface MatchStandingRepository extends JpaRepository<MatchStanding, Long> {
+
+    @Query("select ms from MatchStanding ms join fetch ms.match where ms.match.id = :matchId")
+    Optional<MatchStanding> findByMatchIdWithMatch(@Param("matchId") Long matchId);
+
+    Optional<MatchStanding> findByMatch_Id(Long matchId);
+}
@@ -9,19 +9,20 @@ import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchResultId
 import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchRankRepository;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchSetRepository;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewChangedEvent;
+import leaguehub.leaguehubbackend.domain.match.service.standings.MatchStandings;
 import leaguehub.leaguehubbackend.domain.participant.dto.ParticipantIdResponseDto;
+import leaguehub.leaguehubbackend.domain.participant.entity.Participant;
 import leaguehub.leaguehubbackend.domain.participant.exception.exception.InvalidParticipantAuthException;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
-import org.jetbrains.annotations.NotNull;
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -35,78 +36,176 @@ import static leaguehub.leaguehubbackend.domain.match.entity.PlayerStatus.WAITIN
 @Transactional
 public class MatchPlayerService {
 
-    private final JSONParser jsonParser;
     private final MatchPlayerRepository matchPlayerRepository;
     private final MatchSetRepository matchSetRepository;
     private final MatchService matchService;
     private final MatchRankRepository matchRankRepository;
 
     private final MatchWebClientService matchWebClientService;
-    private final MatchQueryService matchQueryService;
+    private final MatchStandingService matchStandingService;
+    private final ApplicationEventPublisher eventPublisher;
 
+    //라이엇 매치 Id를 찾기 위해 동시에 조회할 플레이어 수
+    @Value("${match.score.discovery.fanout:4}")
+    private int discoveryFanout;
 
-    @SneakyThrows
-    public List<MatchRankResultDto> setPlacement(JSONArray participantList, List<MatchPlayer> findMatchPlayerList) {
-        List<MatchRankResultDto> dtoList = new ArrayList<>();
+    //같은 경기를 가리켜야 하는 플레이어 수
+    @Value("${match.score.discovery.quorum:2}")
+    private int discoveryQuorum;
 
+    //매치 종료 후 다음 라운드로 진출하는 인원
+    @Value("${match.standings.advance-count:4}")
+    private int advanceCount;
 
-        for (int jsonIndex = 0; jsonIndex < 8; jsonIndex++) {
+    @Value("${match.standings.tie-breakers:MOST_FIRST_PLACES,LAST_SET_PLACEMENT}")
+    private List<MatchTieBreaker> tieBreakers;
 
-            JSONObject participants = (JSONObject) jsonParser.parse(participantList.get(jsonIndex).toString());
 
-            Integer placement = Integer.parseInt(participants.get("placement").toString());
+    public List<MatchRankResultDto> setPlacement(Map<String, Integer> placementByPuuid, Map<String, String> gameIdByPuuid) {
+        List<MatchRankResultDto> dtoList = new ArrayList<>();
 
-            String parti1puuid = participants.get("puuid").toString();
+        placementByPuuid.forEach((puuid, placement) -> {
+            String gameId = gameIdByPuuid.get(puuid);
+            if (gameId != null) dtoList.add(new MatchRankResultDto(gameId, placement));
+        });
 
-            MatchRankResultDto matchRankResultDto = new MatchRankResultDto();
-            findMatchPlayerList.stream()
-                    .map(MatchPlayer::getParticipant)
-                    .filter(participant -> participant.getPuuid().equalsIgnoreCase(parti1puuid))
-                    .forEach(participant -> {
-                        matchRankResultDto.setGameId(participant.getGameId());
-                        matchRankResultDto.setPlacement(placement);
-                        dtoList.add(matchRankResultDto);
-                    });
-        }
         return dtoList;
     }
 
 
     /**
      * 라이엇 API로 경기 결과 호출
+     * DB 커넥션을 잡지 않도록 트랜잭션 밖에서 논블로킹으로 호출한다.
+     * 저장된 puuid가 없는 플레이어는 먼저 puuid를 조회해야 등수를 매길 수 있으므로,
+     * 한 명이라도 조회에 실패하면 경기 조회 전에 실패한다.
+     *
+     * @param matchScoreTargetDto
+     * @param endTime
+     * @return RiotAPIDto
+     */
+    public Mono<RiotAPIDto> requestMatchDetailFromRiot(MatchScoreTargetDto matchScoreTargetDto, Long endTime) {
+        return resolveMissingPuuids(matchScoreTargetDto)
+                .flatMap(resolvedPuuidByGameId -> discoverRiotMatchUuid(matchScoreTargetDto, endTime)
+                        .flatMap(riotMatchUuid -> matchWebClientService.requestMatchPlacement(riotMatchUuid)
+                                .map(placementByPuuid -> new RiotAPIDto(riotMatchUuid,
+                                        setPlacement(placementByPuuid, matchScoreTargetDto.getGameIdByPuuid()), resolvedPuuidByGameId))));
+    }
+
+    /**
+     * 저장된 puuid가 없는 플레이어의 puuid를 조회해 검색 대상과 puuid -> gameId 에 더한다.
+     *
+     * @param matchScoreTargetDto
+     * @return gameId -> 조회한 puuid
+     */
+    private Mono<Map<String, String>> resolveMissingPuuids(MatchScoreTargetDto matchScoreTargetDto) {
+        return Flux.fromIterable(matchScoreTargetDto.getSearchGameIds())
+                .flatMap(gameId -> matchWebClientService.requestSummonerPuuid(gameId)
+                        .map(puuid -> Map.entry(gameId, puuid)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .doOnNext(resolvedPuuidByGameId -> resolvedPuuidByGameId.forEach((gameId, puuid) -> {
+                    matchScoreTargetDto.getSearchPuuids().add(puuid);
+                    matchScoreTargetDto.getGameIdByPuuid().put(puuid, gameId);
+                }));
+    }
+
+    /**
+     * 여러 플레이어의 최근 경기를 동시에 조회해 정족수 이상이 같은 경기를 가리키면 그 경기를 선택한다.
+     * 정족수를 채우는 즉시 남은 조회는 취소하고, 한 플레이어의 조회 실패는 전체 실패로 보지 않는다.
+     * 가장 최근 경기가 이전 세트에 이미 반영된 경기라면 아직 결과가 나오지 않은 것으로 본다.
      *
-     * @param gameId
-     * @return matchRankResultDto
+     * @param matchScoreTargetDto
+     * @param endTime
+     * @return 라이엇 고유 매치 Id
      */
-    @SneakyThrows
-    public RiotAPIDto getMatchDetailFromRiot(String gameId, List<MatchPlayer> findMatchPlayerList, Long endTime) {
-        String puuid = matchWebClientService.getSummonerPuuid(gameId);
-        String riotMatchUuid = matchWebClientService.getMatch(puuid, endTime);
+    private Mono<String> discoverRiotMatchUuid(MatchScoreTargetDto matchScoreTargetDto, Long endTime) {
+        List<String> searchPuuids = matchScoreTargetDto.getSearchPuuids();
+        List<String> fanout = searchPuuids.subList(0, Math.min(discoveryFanout, searchPuuids.size()));
+        int quorum = Math.max(1, Math.min(discoveryQuorum, fanout.size()));
+
+        return Mono.defer(() -> {
+            Map<String, Integer> voteByRiotMatchUuid = new HashMap<>();
+
+            return Flux.fromIterable(fanout)
+                    .flatMap(puuid -> matchWebClientService.requestMatch(puuid, endTime)
+                            .filter(riotMatchUuid -> !matchScoreTargetDto.getScoredRiotMatchUuids().contains(riotMatchUuid))
+                            .onErrorResume(e -> Mono.empty()))
+                    .filter(riotMatchUuid -> voteByRiotMatchUuid.merge(riotMatchUuid, 1, Integer::sum) >= quorum)
+                    .next();
+        }).switchIfEmpty(Mono.error(new MatchResultIdNotFoundException()));
+    }
+
+    /**
+     * 점수 업데이트 대상 매치 세트를 조회한다.
+     * 라이엇 호출에 필요한 값만 꺼내고 트랜잭션은 바로 종료한다.
+     *
+     * @param matchId
+     * @param setCount
+     * @return MatchScoreTargetDto
+     */
+    @Transactional(readOnly = true)
+    public MatchScoreTargetDto getScoreTarget(Long matchId, Integer setCount) {
+        List<MatchPlayer> findMatchPlayerList = matchPlayerRepository.findMatchPlayersWithoutDisqualification(matchId);
+
+        if(findMatchPlayerList.size() == 0) throw new MatchNotFoundException();
+
+        getMatchSet(matchId, setCount);
+
+        MatchScoreTargetDto matchScoreTargetDto = new MatchScoreTargetDto(matchId, setCount);
+
+        findMatchPlayerList.stream()
+                .map(MatchPlayer::getParticipant)
+                .forEach(participant -> {
+                    if (participant.getPuuid() == null) {
+                        matchScoreTargetDto.getSearchGameIds().add(participant.getGameId());
+                        return;
+                    }
+                    matchScoreTargetDto.getSearchPuuids().add(participant.getPuuid());
+                    matchScoreTargetDto.getGameIdByPuuid().put(participant.getPuuid(), participant.getGameId());
+                });
 
-        JSONObject matchDetailJSON = matchWebClientService.responseMatchDetail(riotMatchUuid);
+        matchScoreTargetDto.getScoredRiotMatchUuids().addAll(matchSetRepository.findRiotMatchUuidsByMatchId(matchId));
 
+        return matchScoreTargetDto;
+    }
 
-        JSONObject info = (JSONObject) jsonParser.parse(matchDetailJSON.get("info").toString());
-        JSONArray participantList = (JSONArray) jsonParser.parse(info.get("participants").toString());
+    /**
+     * 점수가 반영된 매치 세트의 결과를 조회한다.
+     * 다른 서버가 점수를 반영하길 기다릴 때 사용한다.
+     *
+     * @param matchId
+     * @param setCount
+     * @return 아직 반영되지 않았다면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<MatchInfoDto> findScoredMatchInfo(Long matchId, Integer setCount) {
+        MatchSet matchSet = matchSetRepository.findMatchSetByMatchIdAndAndSetCount(matchId, setCount)
+                .orElseThrow(MatchNotFoundException::new);
 
-        List<MatchRankResultDto> matchRankResultDtoList = setPlacement(participantList, findMatchPlayerList);
+        if (!matchSet.getUpdateScore()) return Optional.empty();
 
+        MatchStanding matchStanding = matchStandingService.getMatchStanding(matchId);
 
-        return new RiotAPIDto(riotMatchUuid, matchRankResultDtoList);
+        return Optional.of(matchService.convertMatchInfoDto(matchSet.getMatch(), matchStanding));
     }
 
-    public MatchInfoDto updateMatchPlayerScore(Long matchId, Integer setCount, Long endTime) {
+    /**
+     * 라이엇에서 가져온 경기 결과를 매치에 반영한다.
+     *
+     * @param matchId
+     * @param setCount
+     * @param matchDetailFromRiot
+     * @return MatchInfoDto
+     */
+    public MatchInfoDto applyMatchResult(Long matchId, Integer setCount, RiotAPIDto matchDetailFromRiot) {
         List<MatchPlayer> findMatchPlayerList = matchPlayerRepository.findMatchPlayersWithoutDisqualification(matchId);
 
         if(findMatchPlayerList.size() == 0) throw new MatchNotFoundException();
 
-        RiotAPIDto matchDetailFromRiot =
-                getMatchDetailFromRiot(findMatchPlayerList.get(0).getParticipant().getGameId(),
-                        findMatchPlayerList, endTime);
-
         MatchSet matchSet = getMatchSet(matchId, setCount);
+        MatchStanding matchStanding = matchStandingService.getMatchStandingForUpdate(matchId);
 
         if (matchSet.getRiotMatchUuid() == null) matchSet.updateRiotMatchUuid(matchDetailFromRiot.getMatchUuid());
+        savePuuids(findMatchPlayerList, matchDetailFromRiot.getResolvedPuuidByGameId());
 
         List<MatchRankResultDto> matchRankResultDtoList = matchDetailFromRiot.getMatchRankResultDtoList();
         validMatchResult(findMatchPlayerList, matchRankResultDtoList);
@@ -130,17 +229,45 @@ public class MatchPlayerService {
                 .collect(Collectors.toList());
         matchSet.addMatchRankList(matchRanks);
         matchRankRepository.saveAll(matchRanks);
+        matchStandingService.applyMatchSet(matchStanding, setCount, matchRankResultDtoList);
 
         findMatchPlayerList.stream()
                 .forEach(matchPlayer -> matchPlayer.updatePlayerCheckInStatus(WAITING));
 
         Match match = findMatchPlayerList.get(0).getMatch();
-        checkMatchEnd(matchSet, match);
+        checkMatchEnd(matchSet, match, findMatchPlayerList, matchStanding);
+        eventPublisher.publishEvent(MatchViewChangedEvent.ofMatches(match.getChannel().getChannelLink(), List.of(matchId),
+                createResultDeltas(match, matchStanding)));
+
+        return matchService.convertMatchInfoDto(match, matchStanding);
+    }
 
-        List<MatchPlayer> allByMatchId = matchPlayerRepository.findAllByMatch_Id(matchId);
-        MatchInfoDto matchInfoDto = matchService.convertMatchInfoDto(match, allByMatchId);
+    private List<BracketDelta> createResultDeltas(Match match, MatchStanding matchStanding) {
+        List<BracketDelta> deltas = new ArrayList<>();
+        deltas.add(BracketDelta.matchStatus(match));
+        deltas.add(BracketDelta.score(match.getId(), matchStanding.getEntries().stream()
+                .map(BracketPlayerDelta::score)
+                .collect(Collectors.toList())));
+
+        if (match.getMatchStatus() == MatchStatus.END) {
+            deltas.add(BracketDelta.playerAdvanced(match.getId(), matchStanding.getEntries().stream()
+                    .filter(entry -> entry.getMatchPlayerResultStatus() == ADVANCE)
+                    .map(entry -> BracketPlayerDelta.status(entry.getMatchPlayerId(), entry.getParticipantId(), null, ADVANCE))
+                    .collect(Collectors.toList())));
+        }
 
-        return matchInfoDto;
+        return deltas;
+    }
+
+    //다음 세트부터 puuid 조회를 다시 하지 않도록 이번에 조회한 puuid를 참가자에 저장한다.
+    private void savePuuids(List<MatchPlayer> findMatchPlayerList, Map<String, String> resolvedPuuidByGameId) {
+        findMatchPlayerList.stream()
+                .map(MatchPlayer::getParticipant)
+                .filter(participant -> participant.getPuuid() == null)
+                .forEach(participant -> {
+                    String puuid = resolvedPuuidByGameId.get(participant.getGameId());
+                    if (puuid != null) participant.updatePuuid(puuid);
+                });
     }
 
     private void replaceMatchResult(List<String> findMatchPlayerGameIdList, List<MatchRankResultDto> matchRankResultDtoList) {
@@ -178,11 +305,13 @@ public class MatchPlayerService {
      *
      * @param matchSet
      * @param match
+     * @param matchPlayers  실격을 제외한 매치 플레이어
+     * @param matchStanding 이번 세트까지 누적된 순위표
      */
-    private void checkMatchEnd(MatchSet matchSet, Match match) {
+    private void checkMatchEnd(MatchSet matchSet, Match match, List<MatchPlayer> matchPlayers, MatchStanding matchStanding) {
         if (match.getMatchSetCount().equals(matchSet.getSetCount())) {
             match.updateMatchStatus(MatchStatus.END);
-            updateEndMatchResult(match);
+            updateEndMatchResult(matchPlayers, matchStanding);
         } else {
             match.updateCurrentMatchSet(matchSet.getSetCount() + 1);
         }
@@ -231,53 +360,43 @@ public class MatchPlayerService {
         }
 
         matchPlayer.updatePlayerCheckInStatus(READY);
+        matchStandingService.updatePlayerStatus(matchPlayer, READY);
+        eventPublisher.publishEvent(MatchViewChangedEvent.ofMatch(matchPlayer.getMatch().getChannel().getChannelLink(), matchId,
+                BracketDelta.playerStatus(matchId, BracketPlayerDelta.status(matchPlayerId, matchPlayer.getParticipant().getId(), READY, null))));
 
         return new ParticipantIdResponseDto(message.getMatchPlayerId(), READY.getStatus());
     }
 
+    @Transactional(readOnly = true)
     public List<MatchSetStatusMessage> getAllPlayerStatusForMatch(Long matchId) {
-        List<MatchPlayer> matchPlayers = matchPlayerRepository.findAllByMatch_Id(matchId);
+        List<MatchSetStatusMessage> playerStatusList = matchPlayerRepository.findPlayerStatusByMatchId(matchId);
 
-        if (matchPlayers.isEmpty()) {
+        if (playerStatusList.isEmpty()) {
             throw new MatchNotFoundException();
         }
 
-        return matchPlayers.stream()
-                .map(mp -> new MatchSetStatusMessage(mp.getId(), mp.getPlayerStatus()))
-                .collect(Collectors.toList());
+        return playerStatusList;
     }
 
     /**
      * 매치 종료 후 진출자, 탈락자를 결정한다.
-     * 실격을 제외한 매치 플레이어들을 점수대로 정렬해 불러와서
-     * 4번째 위치한 선수를 기준으로 동점자, 진출자, 탈락자를 결정한다.
+     * 누적 순위표의 점수, 1등 횟수, 마지막 세트 등수로
+     * 진출 인원 경계의 점수를 기준으로 진출자, 탈락자, 동점자를 결정한다.
      *
-     * @param match
+     * @param matchPlayers  실격을 제외한 매치 플레이어
+     * @param matchStanding 마지막 세트까지 누적된 순위표
      */
-    public void updateEndMatchResult(Match match) {
-        List<MatchPlayer> matchPlayersWithoutDisqualification = matchPlayerRepository.findMatchPlayersWithoutDisqualification(match.getId());
-        Integer advanceScore = matchPlayersWithoutDisqualification.get(3).getPlayerScore();
-
-        long winCount = advanceMatchPlayer(matchPlayersWithoutDisqualification, advanceScore);
-
-        List<MatchPlayer> tieMatchPlayerList = getTiePlayerList(matchPlayersWithoutDisqualification, advanceScore);
+    public void updateEndMatchResult(List<MatchPlayer> matchPlayers, MatchStanding matchStanding) {
+        Map<Long, MatchPlayerResultStatus> resultByParticipantId = MatchStandings.of(matchStanding)
+                .decide(advanceCount, tieBreakers);
 
-        dropoutMatchPlayerWithScore(matchPlayersWithoutDisqualification, advanceScore);
+        resultByParticipantId.forEach(matchStanding::updateMatchPlayerResultStatus);
 
-        if (winCount == 3 && tieMatchPlayerList.size() == 1) {
-            MatchPlayer matchPlayer = tieMatchPlayerList.get(0);
-            matchPlayer.updateMatchPlayerResultStatus(ADVANCE);
-        } else if (winCount < 4 && tieMatchPlayerList.size() > 1) {
-            tieBreaker(tieMatchPlayerList, match.getId(), 4 - Long.valueOf(winCount).intValue());
-        }
-    }
-
-    private void dropoutMatchPlayerWithScore(List<MatchPlayer> matchPlayersWithoutDisqualification, Integer advanceScore) {
-        matchPlayersWithoutDisqualification.stream()
-                .filter(mp -> mp.getPlayerScore() < advanceScore)
-                .forEach(mp -> {
-                    dropoutMatchPlayerAndParticipantStatus(mp);
-                });
+        matchPlayers.forEach(matchPlayer -> {
+            MatchPlayerResultStatus result = resultByParticipantId.get(matchPlayer.getParticipant().getId());
+            if (result == ADVANCE) matchPlayer.updateMatchPlayerResultStatus(ADVANCE);
+            if (result == DROPOUT) dropoutMatchPlayerAndParticipantStatus(matchPlayer);
+        });
     }
 
     private void dropoutMatchPlayerAndParticipantStatus(MatchPlayer mp) {
@@ -285,148 +404,4 @@ public class MatchPlayerService {
         mp.getParticipant().dropoutParticipantStatus();
     }
 
-    @NotNull
-    private List<MatchPlayer> getTiePlayerList(List<MatchPlayer> matchPlayersWithoutDisqualification, Integer advanceScore) {
-        List<MatchPlayer> tieMatchPlayerList = matchPlayersWithoutDisqualification.stream()
-                .filter(mp -> mp.getPlayerScore().equals(advanceScore))
-                .collect(Collectors.toList());
-        return tieMatchPlayerList;
-    }
-
-    private long advanceMatchPlayer(List<MatchPlayer> matchPlayersWithoutDisqualification, Integer advanceScore) {
-        long winCount = matchPlayersWithoutDisqualification.stream()
-                .filter(mp -> mp.getPlayerScore() > advanceScore)
-                .peek(mp -> mp.updateMatchPlayerResultStatus(ADVANCE))
-                .count();
-        return winCount;
-    }
-
-
-    /**
-     * 동점자 처리 로직
-     * i. 1등을 많이 한 플레이어
-     * ii. 가장 최근 게임 등수에서 가장 높은 순위를 가진 플레이어
-     *
-     * @param tieMatchPlayerList
-     * @param matchId
-     */
-    public void tieBreaker(List<MatchPlayer> tieMatchPlayerList, Long matchId, Integer advanceCount) {
-        List<GameResultDto> matchSetResult = matchQueryService.getGameResult(matchId);
-
-        //게임 Id만 뽑는 로직
-        List<String> tiePlayerGameIdList = tieMatchPlayerList.stream()
-                .map(matchPlayer -> matchPlayer.getParticipant().getGameId())
-                .collect(Collectors.toList());
-
-        int tiePlayerCount = tieMatchPlayerList.size();
-
-        //가장 많이 1등 한 사람들을 뽑는 로직
-        List<String> firstPlayer = mostFirstPlayer(matchSetResult, tiePlayerGameIdList);
-
-        //진출 숫자가 1등 플레이어보다 많으면 1등 플레이어 모두 진출
-        if (advanceCount - firstPlayer.size() >= 0) {
-            //1등 플레이어 제외 모두 drop으로 바뀜
-            updateMatchPlayerStatus(tieMatchPlayerList, firstPlayer);
-            tieMatchPlayerList.removeIf(matchPlayer -> firstPlayer.contains(matchPlayer.getParticipant().getGameId()));
-            tiePlayerGameIdList.removeAll(firstPlayer);
-            advanceCount -= firstPlayer.size();
-            tiePlayerCount -= firstPlayer.size();
-        } else {
-            //그게 아니면 1등 플레이어들만 남기고 전부 탈락
-            updateMatchPlayerStatus(tieMatchPlayerList, firstPlayer);
-            tieMatchPlayerList.removeIf(matchPlayer -> !firstPlayer.contains(matchPlayer.getParticipant().getGameId()));
-        }
-
-        //advanceCount가 0보다 크면 들어감, 만약 advanceCount가 0이면, 위에서 전부 Drop 했기 때문에 그냥 넘어감
-        if (advanceCount > 0) {
-            //1등 플레이어 로직으로 걸러진 동점자들이 남은 advanceCount보다 크면 최근 경기 등수 대로, 만약 작거나 같으면 전부 진출
-            if (tiePlayerCount > advanceCount) {
-                List<String> tiePlayerGameIdOfAdvanceList = lastGamePlacement(tiePlayerGameIdList, matchSetResult, advanceCount);
-                updateMatchPlayerStatus(tieMatchPlayerList, tiePlayerGameIdOfAdvanceList);
-            } else {
-                updateMatchPlayerStatus(tieMatchPlayerList, tiePlayerGameIdList);
-            }
-        }
-    }
-
-    private void updateMatchPlayerStatus(List<MatchPlayer> tieMatchPlayerList, List<String> tiePlayerGameIdList) {
-        for (MatchPlayer matchPlayer : tieMatchPlayerList) {
-            if (tiePlayerGameIdList.contains(matchPlayer.getParticipant().getGameId())) {
-                matchPlayer.updateMatchPlayerResultStatus(ADVANCE);
-            } else {
-                dropoutMatchPlayerAndParticipantStatus(matchPlayer);
-            }
-        }
-    }
-
-
-    /**
-     * 가장 1등을 많이 한 플레이어(들)을 가져오는 로직
-     * 없으면 동점자들을 들어온 그대로 다시 반환한다.
-     * 있는데 여러명이라면 여러명을 다시 반환해 tiePlayerGameIdList로 만들어버린다.
-     *
-     * @param matchSetResult
-     * @param tiePlayerGameIdList
-     * @return
-     */
-    private List<String> mostFirstPlayer(List<GameResultDto> matchSetResult, List<String> tiePlayerGameIdList) {
-        Map<String, Integer> countFirstPlayerMap = new ConcurrentHashMap<>();
-
-        int maxCount = 0;
-
-        for (GameResultDto gameResult : matchSetResult) {
-            for (MatchRankResultDto matchRankResultDto : gameResult.getMatchRankResultDtos()) {
-                if (matchRankResultDto.getPlacement() == 1) {
-                    String gameId = matchRankResultDto.getGameId();
-                    int count = countFirstPlayerMap.getOrDefault(gameId, 0) + 1;
-                    countFirstPlayerMap.put(gameId, count);
-                    maxCount = Math.max(maxCount, count);
-                }
-            }
-        }
-
-        List<String> mostFirstPlayerInTieList = new ArrayList<>();
-        for (String gameId : countFirstPlayerMap.keySet()) {
-            if (maxCount == countFirstPlayerMap.get(gameId) && tiePlayerGameIdList.contains(gameId)) {
-                mostFirstPlayerInTieList.add(gameId);
-            }
-        }
-
-        if (!mostFirstPlayerInTieList.isEmpty()) {
-            return mostFirstPlayerInTieList;
-        }
-
-        return tiePlayerGameIdList;
-    }
-
-    /**
-     * 가장 최근 게임에서 가장 높은 등수를 가진 참가자를 뽑는 로직
-     * 가장 최근 게임은 가장 최근에 수정된 gameResult 로 판단함
-     *
-     * @param tiePlayerGameIdList
-     * @param matchSetResult
-     * @return
-     */
-    private List<String> lastGamePlacement(List<String> tiePlayerGameIdList, List<GameResultDto> matchSetResult, Integer advanceCount) {
-
-        List<MatchRankResultDto> matchRankResultDtos = matchSetResult.stream().filter(gameResultDto -> gameResultDto.getMatchSetCount() == 3)
-                .findFirst().orElseThrow(() -> new MatchNotFoundException()).getMatchRankResultDtos();
-
-
-        matchRankResultDtos.sort(Comparator.comparing(MatchRankResultDto::getPlacement));
-
-        List<String> tiePlayerGameIdOfAdvanceList = new ArrayList<>();
-
-
-        for (MatchRankResultDto matchRankResultDto : matchRankResultDtos) {
-            String resultGameId = matchRankResultDto.getGameId();
-            if (tiePlayerGameIdList.contains(resultGameId) && advanceCount > 0) {
-                tiePlayerGameIdOfAdvanceList.add(resultGameId);
-                advanceCount--;
-            }
-        }
-
-        return tiePlayerGameIdOfAdvanceList;
-    }
-
 }
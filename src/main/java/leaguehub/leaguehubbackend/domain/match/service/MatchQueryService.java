@@ -1,32 +1,42 @@
 package leaguehub.leaguehubbackend.domain.match.service;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import leaguehub.leaguehubbackend.domain.channel.entity.Channel;
 import leaguehub.leaguehubbackend.domain.channel.exception.exception.ChannelNotFoundException;
+import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRepository;
 import leaguehub.leaguehubbackend.domain.match.dto.*;
 import leaguehub.leaguehubbackend.domain.match.entity.Match;
-import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayer;
 import leaguehub.leaguehubbackend.domain.match.entity.MatchSet;
-import leaguehub.leaguehubbackend.domain.match.entity.MatchStatus;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStanding;
 import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchNotFoundException;
 import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchResultIdNotFoundException;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository.MatchPlayerInfoRow;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository.MyMatchRow;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository.RoundMatchSetCount;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchSetRepository;
+import leaguehub.leaguehubbackend.domain.match.service.cache.BracketSnapshotCache;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewCache;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewKey;
 import leaguehub.leaguehubbackend.domain.member.entity.Member;
 import leaguehub.leaguehubbackend.domain.member.service.MemberAuthService;
 import leaguehub.leaguehubbackend.domain.member.service.MemberService;
 import leaguehub.leaguehubbackend.domain.participant.entity.Participant;
 import leaguehub.leaguehubbackend.domain.participant.entity.Role;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import static leaguehub.leaguehubbackend.domain.channel.entity.ChannelStatus.PROCEEDING;
-import static leaguehub.leaguehubbackend.domain.match.entity.MatchStatus.END;
 import static leaguehub.leaguehubbackend.domain.participant.entity.Role.PLAYER;
 import static leaguehub.leaguehubbackend.global.audit.GlobalConstant.NO_DATA;
 
@@ -40,6 +50,18 @@ public class MatchQueryService {
     private final MemberAuthService memberAuthService;
     private final MatchSetRepository matchSetRepository;
     private final MatchService matchService;
+    private final MatchStandingService matchStandingService;
+    private final ChannelRepository channelRepository;
+    private final MatchViewCache matchViewCache;
+    private final BracketSnapshotCache bracketSnapshotCache;
+
+    private static final int MAX_GROUP_PAGE_SIZE = 64;
+    private static final JavaType GAME_RESULT_LIST_TYPE =
+            TypeFactory.defaultInstance().constructCollectionType(List.class, GameResultDto.class);
+
+    //라운드 조회 시 한 페이지에 담는 그룹(매치) 수
+    @Value("${match.bracket.group-page-size:16}")
+    private int groupPageSize;
 
 
     /**
@@ -54,14 +76,18 @@ public class MatchQueryService {
         Participant participant = matchService.getParticipant(member.getId(), channelLink);
         Channel findChannel = participant.getChannel();
 
-        int maxPlayers = findChannel.getMaxPlayer();
-        List<Integer> roundList = calculateRoundList(maxPlayers);
+        List<Integer> roundList = calculateRoundList(findChannel);
 
         MatchRoundListDto roundListDto = new MatchRoundListDto();
         roundListDto.setLiveRound(0);
         roundListDto.setRoundList(roundList);
 
-        findLiveRound(channelLink, roundList, roundListDto);
+        //경기 배정은 라이브 라운드까지만 이루어졌으므로 그 이후 라운드(아직 만들지 않았을 수 있음)는 조회하지 않는다.
+        int maxRound = Math.min(findChannel.getLiveRound(), roundList.size());
+        if (maxRound >= 1) {
+            matchRepository.findLiveRound(findChannel.getId(), maxRound)
+                    .ifPresent(roundListDto::setLiveRound);
+        }
 
         if (participant.getRole().equals(Role.HOST))
             roundListDto.setLiveRound(findChannel.getLiveRound());
@@ -71,29 +97,60 @@ public class MatchQueryService {
 
 
     /**
-     * 해당 채널의 참가한 플레이어 리스트를 반환
+     * 해당 채널의 참가한 플레이어 리스트를 그룹 단위 페이지로 반환
+     * 그룹 수와 상관없이 매치 한 번, 매치 플레이어 한 번 조회하고 엔티티 대신 DTO 로 바로 읽는다.
+     * 요청한 사람과 상관없는 부분은 MatchViewCache 에 두고, myGameId 만 요청마다 채운다.
+     * 캐시가 대진표 버전을 먼저 읽고 DB 를 읽어야 하므로 트랜잭션 없이 호출한다.
      *
      * @param channelLink
      * @param matchRound
+     * @param page        0 부터 시작
+     * @param size        한 페이지의 그룹 수, 없으면 기본값
      * @return
      */
-    @Transactional(readOnly = true)
-    public MatchRoundInfoDto loadMatchPlayerList(String channelLink, Integer matchRound) {
-        Member member = memberService.findCurrentMember();
-        Participant participant = matchService.getParticipant(member.getId(), channelLink);
+    public MatchRoundInfoDto loadMatchPlayerList(String channelLink, Integer matchRound, int page, Integer size) {
+        String myGameId = findMyGameId(channelLink, matchRound);
+        MatchRoundInfoDto roundView = getRoundView(channelLink, matchRound, page, size);
 
-        List<Match> matchList = matchService.findMatchList(channelLink, matchRound);
+        MatchRoundInfoDto matchRoundInfoDto = new MatchRoundInfoDto();
+        matchRoundInfoDto.setMyGameId(myGameId);
+        matchRoundInfoDto.setMatchInfoDtoList(roundView.getMatchInfoDtoList());
+        matchRoundInfoDto.setPage(roundView.getPage());
+        matchRoundInfoDto.setTotalPages(roundView.getTotalPages());
+        matchRoundInfoDto.setTotalGroupCount(roundView.getTotalGroupCount());
+        return matchRoundInfoDto;
+    }
 
-        List<MatchInfoDto> matchInfoDtoList = matchList.stream()
-                .map(this::createMatchInfoDto)
-                .collect(Collectors.toList());
+    /**
+     * 요청한 사람과 상관없는 라운드 조회 결과(myGameId 없음), MatchViewCache 와 공유하므로 고치지 않는다.
+     */
+    public MatchRoundInfoDto getRoundView(String channelLink, Integer matchRound, int page, Integer size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = getGroupPageSize(size);
 
-        MatchRoundInfoDto matchRoundInfoDto = new MatchRoundInfoDto();
+        return matchViewCache.get(
+                MatchViewKey.round(channelLink, matchRound, pageNumber, pageSize), MatchRoundInfoDto.class,
+                () -> createRoundView(channelLink, matchRound, pageNumber, pageSize));
+    }
 
-        findMyRoundName(participant, matchList, matchRoundInfoDto);
+    /**
+     * 요청한 사람이 라운드에 배정됐다면 게임 Id, 아니면 NO_DATA
+     * 페이지에 없는 그룹에 배정됐을 수 있으므로 라운드 전체에서 찾는다.
+     *
+     * @param channelLink
+     * @param matchRound
+     * @return
+     */
+    public String findMyGameId(String channelLink, Integer matchRound) {
+        Member member = memberService.findCurrentMember();
+        Participant participant = matchService.getParticipant(member.getId(), channelLink);
 
-        matchRoundInfoDto.setMatchInfoDtoList(matchInfoDtoList);
-        return matchRoundInfoDto;
+        if (!participant.getGameId().equalsIgnoreCase(NO_DATA.getData())
+                && matchPlayerRepository.existsByParticipant_IdAndMatch_MatchRound(participant.getId(), matchRound)) {
+            return participant.getGameId();
+        }
+
+        return NO_DATA.getData();
     }
 
     /**
@@ -112,7 +169,7 @@ public class MatchQueryService {
         myMatchDto.setMyMatchRound(0);
         myMatchDto.setMyMatchId(0L);
 
-        findMyMatch(channelLink, participant, myMatchDto);
+        findMyMatch(participant, myMatchDto);
 
         return myMatchDto;
     }
@@ -120,15 +177,17 @@ public class MatchQueryService {
 
     /**
      * 해당 매치의 경기 횟수 반환
+     * 아직 매치가 만들어지지 않은 라운드는 채널에 저장된 라운드별 경기 횟수로 답한다.
      *
      * @param channelLink
      * @return
      */
     @Transactional(readOnly = true)
     public MatchSetCountDto getMatchSetCount(String channelLink) {
+        Channel channel = channelRepository.findByChannelLink(channelLink)
+                .orElseThrow(ChannelNotFoundException::new);
 
-        List<Match> matchList = matchRepository.findAllByChannel_ChannelLinkOrderByMatchRoundDesc(channelLink);
-        List<Integer> matchSetCountList = getMatchSetCountList(matchList);
+        List<Integer> matchSetCountList = getMatchSetCountList(channel);
 
         MatchSetCountDto matchSetCountDto = new MatchSetCountDto();
         matchSetCountDto.setMatchSetCountList(matchSetCountList);
@@ -138,41 +197,91 @@ public class MatchQueryService {
 
     /**
      * 해당 매치의 점수 정보 반환
+     * 점수판은 MatchViewCache 에 두고, requestMatchPlayerId 만 요청마다 채운다.
      *
      * @param channelLink
      * @param matchId
      * @return
      */
-    @Transactional(readOnly = true)
     public MatchScoreInfoDto getMatchScoreInfo(String channelLink, Long matchId) {
-        List<MatchPlayer> matchPlayers = Optional.ofNullable(
-                        matchPlayerRepository.findMatchPlayersAndMatchAndParticipantByMatchId(matchId))
-                .filter(list -> !list.isEmpty())
-                .orElseThrow(MatchNotFoundException::new);
+        MatchScoreInfoDto matchScoreInfoDto = getMatchScoreView(channelLink, matchId);
+        matchScoreInfoDto.setRequestMatchPlayerId(
+                getRequestMatchPlayerId(channelLink, matchScoreInfoDto.getMatchPlayerInfos()));
 
-        Match match = matchRepository.findById(matchId)
-                .orElseThrow(MatchNotFoundException::new);
-
-        List<MatchPlayerInfo> matchPlayerInfoList = matchService.convertMatchPlayerInfoList(matchPlayers);
+        return matchScoreInfoDto;
+    }
 
-        Long requestMatchPlayerId = getRequestMatchPlayerId(channelLink, matchPlayers);
+    /**
+     * 요청한 사람과 상관없는 점수판(requestMatchPlayerId 없음), 캐시된 값을 고치지 않도록 복사해서 반환한다.
+     */
+    public MatchScoreInfoDto getMatchScoreView(String channelLink, Long matchId) {
+        MatchScoreInfoDto scoreView = getCachedScoreView(channelLink, matchId);
 
         return MatchScoreInfoDto.builder()
-                .matchPlayerInfos(matchPlayerInfoList)
-                .matchRound(match.getMatchRound())
-                .matchCurrentSet(match.getMatchCurrentSet())
-                .matchSetCount(match.getMatchSetCount())
-                .requestMatchPlayerId(requestMatchPlayerId)
+                .matchPlayerInfos(scoreView.getMatchPlayerInfos())
+                .matchRound(scoreView.getMatchRound())
+                .matchCurrentSet(scoreView.getMatchCurrentSet())
+                .matchSetCount(scoreView.getMatchSetCount())
                 .build();
     }
 
+    /**
+     * 점수판에서 요청한 사람의 matchPlayerId
+     *
+     * @param channelLink
+     * @param matchId
+     * @return 비회원 0, 관리자 -1, 매치 플레이어가 아니면 0
+     */
+    public Long findRequestMatchPlayerId(String channelLink, Long matchId) {
+        return getRequestMatchPlayerId(channelLink, getCachedScoreView(channelLink, matchId).getMatchPlayerInfos());
+    }
+
     /**
      * 이전 경기의 결과를 보여줌
      * @param matchId
      * @return
      */
-    @Transactional(readOnly = true)
     public List<GameResultDto> getGameResult(Long matchId) {
+        String channelLink = bracketSnapshotCache.findChannelLink(matchId);
+
+        return matchViewCache.get(MatchViewKey.gameResult(channelLink, matchId), GAME_RESULT_LIST_TYPE,
+                () -> createGameResultList(matchId));
+    }
+
+
+    private MatchScoreInfoDto getCachedScoreView(String channelLink, Long matchId) {
+        return matchViewCache.get(MatchViewKey.score(channelLink, matchId), MatchScoreInfoDto.class,
+                () -> createScoreView(channelLink, matchId));
+    }
+
+    private MatchRoundInfoDto createRoundView(String channelLink, Integer matchRound, int page, int size) {
+        Page<MatchViewRow> matchPage = matchRepository.findMatchViewRows(channelLink, matchRound,
+                PageRequest.of(page, size, Sort.by("id")));
+
+        MatchRoundInfoDto roundView = new MatchRoundInfoDto();
+        roundView.setMatchInfoDtoList(createMatchInfoDtoList(matchPage.getContent()));
+        roundView.setPage(matchPage.getNumber());
+        roundView.setTotalPages(matchPage.getTotalPages());
+        roundView.setTotalGroupCount(matchPage.getTotalElements());
+        return roundView;
+    }
+
+    //점수판은 채널 링크를 포함한 키로 저장하므로 다른 채널의 링크로 요청한 매치는 찾지 않는다.
+    private MatchScoreInfoDto createScoreView(String channelLink, Long matchId) {
+        MatchStanding matchStanding = matchStandingService.getMatchStanding(matchId);
+        Match match = matchStanding.getMatch();
+
+        if (!match.getChannel().getChannelLink().equals(channelLink)) throw new MatchNotFoundException();
+
+        return MatchScoreInfoDto.builder()
+                .matchPlayerInfos(matchService.convertMatchPlayerInfoList(matchStanding))
+                .matchRound(match.getMatchRound())
+                .matchCurrentSet(match.getMatchCurrentSet())
+                .matchSetCount(match.getMatchSetCount())
+                .build();
+    }
+
+    private List<GameResultDto> createGameResultList(Long matchId) {
         List<MatchSet> matchSets = matchSetRepository.findMatchSetsByMatch_Id(matchId);
         if (matchSets.isEmpty()) throw new MatchResultIdNotFoundException();
         List<GameResultDto> gameResultDtoList = matchSets.stream().map(matchSet -> GameResultDto.builder()
@@ -186,125 +295,92 @@ public class MatchQueryService {
         return gameResultDtoList;
     }
 
+    private List<Integer> calculateRoundList(Channel channel) {
+        List<Integer> roundList = channel.getBracketStructure().getRoundList();
 
-    private List<Integer> calculateRoundList(int maxPlayers) {
-        List<Integer> defaultroundList = Arrays.asList(0, 8, 16, 32, 64, 128, 256);
-
-        int roundIndex = defaultroundList.indexOf(maxPlayers);
-
-        if (roundIndex == -1) {
-            throw new ChannelNotFoundException();// 에러 처리 시 빈 리스트 반환
+        if (roundList.isEmpty()) {
+            throw new ChannelNotFoundException();
         }
 
-        return IntStream.rangeClosed(1, roundIndex)
-                .boxed()
-                .collect(Collectors.toList());
+        return roundList;
     }
 
-    private void findLiveRound(String channelLink, List<Integer> roundList, MatchRoundListDto roundListDto) {
-        roundList.forEach(round -> {
-                    List<Match> matchList = matchService.findMatchList(channelLink, round);
-                    matchList.stream()
-                            .filter(match -> match.getMatchStatus().equals(MatchStatus.PROGRESS))
-                            .findFirst()
-                            .ifPresent(match -> roundListDto.setLiveRound(match.getMatchRound()));
-                }
-        );
-    }
-
-    private MatchInfoDto createMatchInfoDto(Match match) {
-        MatchInfoDto matchInfoDto = new MatchInfoDto();
-        matchInfoDto.setMatchName(match.getMatchName());
-        matchInfoDto.setMatchId(match.getId());
-        matchInfoDto.setMatchStatus(match.getMatchStatus());
-        matchInfoDto.setMatchRound(match.getMatchRound());
-        matchInfoDto.setMatchCurrentSet(match.getMatchCurrentSet());
-        matchInfoDto.setMatchSetCount(match.getMatchSetCount());
-        matchInfoDto.setAlarm(match.isAlarm());
-
-        List<MatchPlayer> playerList = matchPlayerRepository.findAllByMatch_IdOrderByPlayerScoreDesc(match.getId());
-        List<MatchPlayerInfo> matchPlayerInfoList = createMatchPlayerInfoList(playerList);
-        matchInfoDto.setMatchPlayerInfoList(matchPlayerInfoList);
-
-        return matchInfoDto;
-    }
+    private List<MatchInfoDto> createMatchInfoDtoList(List<MatchViewRow> matchViewRows) {
+        if (matchViewRows.isEmpty()) return new ArrayList<>();
 
-
-    private List<MatchPlayerInfo> createMatchPlayerInfoList(List<MatchPlayer> playerList) {
-        List<MatchPlayerInfo> matchPlayerInfoList = playerList.stream()
-                .map(matchPlayer -> {
-                    MatchPlayerInfo matchPlayerInfo = new MatchPlayerInfo();
-                    matchPlayerInfo.setMatchPlayerId(matchPlayer.getId());
-                    matchPlayerInfo.setParticipantId(matchPlayer.getParticipant().getId());
-                    matchPlayerInfo.setGameId(matchPlayer.getParticipant().getGameId());
-                    matchPlayerInfo.setGameTier(matchPlayer.getParticipant().getGameTier());
-                    matchPlayerInfo.setPlayerStatus(matchPlayer.getPlayerStatus());
-                    matchPlayerInfo.setScore(matchPlayer.getPlayerScore());
-                    matchPlayerInfo.setProfileSrc(matchPlayer.getParticipant().getProfileImageUrl());
-                    return matchPlayerInfo;
-                })
+        List<Long> matchIds = matchViewRows.stream()
+                .map(MatchViewRow::matchId)
                 .collect(Collectors.toList());
 
-        return matchPlayerInfoList;
-
+        Map<Long, List<MatchPlayerInfo>> matchPlayerInfoByMatchId = matchPlayerRepository.findMatchPlayerInfoRows(matchIds).stream()
+                .collect(Collectors.groupingBy(MatchPlayerInfoRow::getMatchId,
+                        Collectors.mapping(MatchPlayerInfoRow::toMatchPlayerInfo, Collectors.toList())));
+
+        return matchViewRows.stream()
+                .map(row -> MatchInfoDto.builder()
+                        .matchId(row.matchId())
+                        .matchName(row.matchName())
+                        .matchStatus(row.matchStatus())
+                        .matchRound(row.matchRound())
+                        .matchCurrentSet(row.matchCurrentSet())
+                        .matchSetCount(row.matchSetCount())
+                        .matchAlarm(Boolean.TRUE.equals(row.alarm()))
+                        .matchPlayerInfoList(matchPlayerInfoByMatchId.getOrDefault(row.matchId(), new ArrayList<>()))
+                        .build())
+                .collect(Collectors.toList());
     }
 
 
-    private void findMyRoundName(Participant participant, List<Match> matchList, MatchRoundInfoDto matchRoundInfoDto) {
-        matchRoundInfoDto.setMyGameId(NO_DATA.getData());
+    private int getGroupPageSize(Integer size) {
+        if (size == null || size < 1) return groupPageSize;
 
-        if (!participant.getGameId().equalsIgnoreCase(NO_DATA.getData())) {
-            matchList.forEach(match -> {
-                List<MatchPlayer> playerList = matchPlayerRepository.findAllByMatch_IdOrderByPlayerScoreDesc(match.getId());
-                playerList.stream()
-                        .filter(player -> participant.getGameId().equalsIgnoreCase(player.getParticipant().getGameId()))
-                        .findFirst()
-                        .ifPresent(player -> matchRoundInfoDto.setMyGameId(participant.getGameId()));
-            });
-        }
+        return Math.min(size, MAX_GROUP_PAGE_SIZE);
     }
 
-    private void findMyMatch(String channelLink, Participant participant, MyMatchDto myMatchDto) {
+    //참가자 Id 로 끝나지 않은 매치를 바로 찾는다.
+    private void findMyMatch(Participant participant, MyMatchDto myMatchDto) {
         if (participant.getRole().equals(PLAYER)
                 && participant.getChannel().getChannelStatus().equals(PROCEEDING)) {
-            matchRepository.findAllByChannel_ChannelLink(channelLink).stream()
-                    .filter(match -> !match.getMatchStatus().equals(END))
-                    .flatMap(match -> getMatchPlayerList(match).stream())
-                    .filter(matchPlayer -> isSameParticipant(matchPlayer, participant))
+            matchPlayerRepository.findMyMatchRows(participant.getId(), PageRequest.of(0, 1)).stream()
                     .findFirst()
-                    .ifPresent(matchPlayer -> setMyMatchInfo(myMatchDto, matchPlayer.getMatch()));
+                    .ifPresent(myMatchRow -> setMyMatchInfo(myMatchDto, myMatchRow));
         }
     }
 
-    private List<MatchPlayer> getMatchPlayerList(Match match) {
-        return matchPlayerRepository.findAllByMatch_IdOrderByPlayerScoreDesc(match.getId());
+    private void setMyMatchInfo(MyMatchDto mymatchDTO, MyMatchRow myMatchRow) {
+        mymatchDTO.setMyMatchId(myMatchRow.getMatchId());
+        mymatchDTO.setMyMatchRound(myMatchRow.getMatchRound());
     }
 
-    private boolean isSameParticipant(MatchPlayer matchPlayer, Participant participant) {
-        return matchPlayer.getParticipant().getId().equals(participant.getId());
-    }
-
-    private void setMyMatchInfo(MyMatchDto mymatchDTO, Match match) {
-        mymatchDTO.setMyMatchId(match.getId());
-        mymatchDTO.setMyMatchRound(match.getMatchRound());
-    }
+    /**
+     * 채널에 저장된 라운드별 경기 횟수를 쓰고,
+     * 저장되지 않은 라운드(설정 전에 만든 채널)만 라운드별 집계 쿼리로 매치에서 읽는다.
+     */
+    private List<Integer> getMatchSetCountList(Channel channel) {
+        Map<Integer, Integer> matchSetCountByRound = null;
 
-    private static List<Integer> getMatchSetCountList(List<Match> matchList) {
         List<Integer> matchSetCountList = new ArrayList<>();
-        int matchRound = 0;
-        for (Match match : matchList) {
-            if (matchRound == match.getMatchRound())
+        for (int matchRound = channel.getRoundCount(); matchRound >= 1; matchRound--) {
+            Optional<Integer> matchSetCount = channel.findMatchSetCount(matchRound);
+
+            if (matchSetCount.isPresent()) {
+                matchSetCountList.add(matchSetCount.get());
                 continue;
-            else {
-                matchSetCountList.add(match.getMatchSetCount());
-                matchRound = match.getMatchRound();
             }
+
+            if (matchSetCountByRound == null) matchSetCountByRound = findRoundMatchSetCounts(channel.getId());
+            matchSetCountList.add(matchSetCountByRound.getOrDefault(matchRound, Match.DEFAULT_MATCH_SET_COUNT));
         }
         return matchSetCountList;
     }
 
+    private Map<Integer, Integer> findRoundMatchSetCounts(Long channelId) {
+        return matchRepository.findRoundMatchSetCounts(channelId).stream()
+                .collect(Collectors.toMap(RoundMatchSetCount::getMatchRound, RoundMatchSetCount::getMatchSetCount));
+    }
+
 
-    private Long getRequestMatchPlayerId(String channelLink, List<MatchPlayer> matchPlayers) {
+    private Long getRequestMatchPlayerId(String channelLink, List<MatchPlayerInfo> matchPlayerInfoList) {
         if (memberAuthService.checkIfMemberIsAnonymous()) {
             return 0L;
         }
@@ -315,16 +391,11 @@ public class MatchQueryService {
             return -1L;
         }
 
-        return findRequestMatchPlayerId(member, matchPlayers);
-    }
-
-    private Long findRequestMatchPlayerId(Member member, List<MatchPlayer> matchPlayers) {
-        for (MatchPlayer mp : matchPlayers) {
-            if (mp.getParticipant().getMember().getId().equals(member.getId())) {
-                return mp.getId();
-            }
-        }
-        return 0L;
+        return matchPlayerInfoList.stream()
+                .filter(matchPlayerInfo -> participant.getId().equals(matchPlayerInfo.getParticipantId()))
+                .map(MatchPlayerInfo::getMatchPlayerId)
+                .findFirst()
+                .orElse(0L);
     }
 
 }
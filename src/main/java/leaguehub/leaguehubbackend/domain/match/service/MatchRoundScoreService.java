@@ -0,0 +1,115 @@
+package leaguehub.leaguehubbackend.domain.match.service;
+
+import leaguehub.leaguehubbackend.domain.match.dto.MatchRoundScoreJobDto;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchRoundScoreProgressDto;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchScoreProgressStatus;
+import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchScoreJobRunningException;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchSetRepository;
+import leaguehub.leaguehubbackend.global.riot.RiotApiGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchScoreProgressStatus.*;
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchStatus.PROGRESS;
+
+/**
+ * 라운드 단위 점수 일괄 업데이트
+ * 라운드의 점수가 반영되지 않은 현재 세트를 제한된 병렬도로 동시에 조회하고,
+ * 매치마다 따로 커밋해 한 매치가 실패해도 나머지는 반영된다.
+ * 진행 상황은 /match/{channelLink}/{matchRound}/score-progress 로 전송한다.
+ */
+@Slf4j
+@Service
+public class MatchRoundScoreService {
+
+    //매치 하나를 반영할 때 필요한 라이엇 호출 수 (매치 Id 검색, 매치 결과 조회)
+    private static final int RIOT_CALLS_PER_MATCH = 2;
+
+    private final MatchService matchService;
+    private final MatchSetRepository matchSetRepository;
+    private final MatchScorePollingService matchScorePollingService;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final int parallelism;
+    private final Set<String> runningRounds = ConcurrentHashMap.newKeySet();
+
+    public MatchRoundScoreService(MatchService matchService, MatchSetRepository matchSetRepository,
+                                  MatchScorePollingService matchScorePollingService,
+                                  SimpMessagingTemplate simpMessagingTemplate, RiotApiGateway riotApiGateway,
+                                  @Value("${match.round-score.parallelism:8}") int parallelism) {
+        this.matchService = matchService;
+        this.matchSetRepository = matchSetRepository;
+        this.matchScorePollingService = matchScorePollingService;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.parallelism = Math.max(1, Math.min(parallelism, riotApiGateway.burstCapacity() / RIOT_CALLS_PER_MATCH));
+    }
+
+
+    /**
+     * 라운드 점수 일괄 업데이트 시작
+     * 대상만 정하고 바로 반환하며, 조회와 반영은 비동기로 진행된다.
+     *
+     * @param channelLink
+     * @param matchRound
+     * @return 대상 매치 수와 병렬도
+     */
+    public MatchRoundScoreJobDto scoreRound(String channelLink, Integer matchRound) {
+        matchService.checkHost(channelLink);
+
+        String roundKey = channelLink + ":" + matchRound;
+        if (!runningRounds.add(roundKey)) throw new MatchScoreJobRunningException();
+
+        List<ScoreTarget> scoreTargets;
+        try {
+            scoreTargets = matchSetRepository.findUnscoredCurrentMatchSetsByRound(channelLink, matchRound, PROGRESS).stream()
+                    .map(matchSet -> new ScoreTarget(matchSet.getMatch().getId(), matchSet.getSetCount()))
+                    .toList();
+        } catch (RuntimeException e) {
+            runningRounds.remove(roundKey);
+            throw e;
+        }
+
+        int totalCount = scoreTargets.size();
+        String destination = "/match/" + channelLink + "/" + matchRound + "/score-progress";
+        AtomicInteger completedCount = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+
+        Flux.fromIterable(scoreTargets)
+                .flatMap(this::scoreMatch, parallelism)
+                .doOnNext(progress -> {
+                    if (progress.status == FAILED) failedCount.incrementAndGet();
+                    simpMessagingTemplate.convertAndSend(destination, new MatchRoundScoreProgressDto(
+                            progress.scoreTarget.matchId, progress.scoreTarget.setCount, progress.status, progress.message,
+                            completedCount.incrementAndGet(), failedCount.get(), totalCount));
+                })
+                .doFinally(signalType -> {
+                    runningRounds.remove(roundKey);
+                    log.info("라운드 점수 업데이트 종료 channelLink = {}, matchRound = {}, 대상 = {}, 실패 = {}",
+                            channelLink, matchRound, totalCount, failedCount.get());
+                })
+                .subscribe();
+
+        return new MatchRoundScoreJobDto(matchRound, totalCount, parallelism);
+    }
+
+    private Mono<ScoreProgress> scoreMatch(ScoreTarget scoreTarget) {
+        return matchScorePollingService.pollNow(scoreTarget.matchId, scoreTarget.setCount)
+                .map(matchInfoDto -> new ScoreProgress(scoreTarget, SUCCESS, null))
+                .onErrorResume(e -> Mono.just(new ScoreProgress(scoreTarget, FAILED, e.getMessage())));
+    }
+
+
+    private record ScoreTarget(Long matchId, Integer setCount) {
+    }
+
+    private record ScoreProgress(ScoreTarget scoreTarget, MatchScoreProgressStatus status, String message) {
+    }
+}
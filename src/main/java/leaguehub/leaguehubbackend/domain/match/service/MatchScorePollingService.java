@@ -0,0 +1,200 @@
+package leaguehub.leaguehubbackend.domain.match.service;
+
+import leaguehub.leaguehubbackend.domain.match.dto.MatchInfoDto;
+import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchAlreadyUpdateException;
+import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchNotFoundException;
+import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchResultIdNotFoundException;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchSetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchStatus.PROGRESS;
+
+/**
+ * 진행 중인 매치 세트의 경기 결과 폴링
+ * 진행 중(PROGRESS)인 매치의 점수가 반영되지 않은 현재 세트를 주기적으로 찾아
+ * 지수 백오프 + 지터 간격으로 라이엇 결과를 조회하고, 반영되면 /match/{matchId}/{set} 으로 전송한다.
+ * 클라이언트의 점수 업데이트 요청은 해당 세트를 바로 조회하라는 힌트로만 쓰인다.
+ */
+@Slf4j
+@Service
+public class MatchScorePollingService {
+
+    private final MatchSetRepository matchSetRepository;
+    private final MatchScoreService matchScoreService;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final boolean enabled;
+    private final long baseBackoffMillis;
+    private final long maxBackoffMillis;
+    private final long hintIntervalMillis;
+    private final int batchSize;
+    private final int concurrency;
+    private final Map<MatchSetKey, PollState> pollStates = new ConcurrentHashMap<>();
+
+    public MatchScorePollingService(MatchSetRepository matchSetRepository, MatchScoreService matchScoreService,
+                                    SimpMessagingTemplate simpMessagingTemplate,
+                                    @Value("${match.score-polling.enabled:true}") boolean enabled,
+                                    @Value("${match.score-polling.base-backoff-millis:15000}") long baseBackoffMillis,
+                                    @Value("${match.score-polling.max-backoff-millis:120000}") long maxBackoffMillis,
+                                    @Value("${match.score-polling.hint-interval-millis:3000}") long hintIntervalMillis,
+                                    @Value("${match.score-polling.batch-size:20}") int batchSize,
+                                    @Value("${match.score-polling.concurrency:4}") int concurrency) {
+        this.matchSetRepository = matchSetRepository;
+        this.matchScoreService = matchScoreService;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.enabled = enabled;
+        this.baseBackoffMillis = baseBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.hintIntervalMillis = hintIntervalMillis;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+    }
+
+
+    /**
+     * 폴링 대상 갱신 후 조회 시간이 된 세트를 한 번에 batchSize 개까지 조회한다.
+     * 라이엇 호출 한도는 RiotApiGateway 가 지키므로 여기서는 동시 조회 수만 제한한다.
+     */
+    @Scheduled(fixedDelayString = "${match.score-polling.interval-millis:5000}")
+    public void pollInProgressMatchSets() {
+        if (!enabled) return;
+
+        Set<MatchSetKey> pendingKeys = matchSetRepository.findUnscoredCurrentMatchSets(PROGRESS).stream()
+                .map(matchSet -> new MatchSetKey(matchSet.getMatch().getId(), matchSet.getSetCount()))
+                .collect(Collectors.toSet());
+
+        pollStates.entrySet().removeIf(entry -> !pendingKeys.contains(entry.getKey()) && !entry.getValue().inFlight);
+        pendingKeys.forEach(key -> pollStates.putIfAbsent(key, new PollState()));
+
+        long now = System.currentTimeMillis();
+        List<MatchSetKey> dueKeys = pollStates.entrySet().stream()
+                .filter(entry -> entry.getValue().isDue(now))
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().nextPollAt))
+                .limit(batchSize)
+                .map(Map.Entry::getKey)
+                .filter(this::markInFlight)
+                .collect(Collectors.toList());
+
+        if (dueKeys.isEmpty()) return;
+
+        Flux.fromIterable(dueKeys)
+                .flatMap(key -> poll(key).onErrorResume(e -> Mono.empty()), concurrency)
+                .subscribe();
+    }
+
+    /**
+     * 클라이언트의 점수 업데이트 요청
+     * 이미 조회 중이거나 방금 조회했다면 무시하고, 아니면 백오프를 초기화하고 바로 조회한다.
+     *
+     * @param matchId
+     * @param setCount
+     */
+    public void requestPoll(Long matchId, Integer setCount) {
+        PollState pollState = pollStates.get(new MatchSetKey(matchId, setCount));
+        if (pollState != null && System.currentTimeMillis() - pollState.lastPolledAt < hintIntervalMillis) return;
+
+        pollNow(matchId, setCount)
+                .onErrorResume(e -> Mono.empty())
+                .subscribe();
+    }
+
+    /**
+     * 백오프를 무시하고 바로 조회한다.
+     * 같은 세트를 이미 조회 중이면 진행 중인 조회의 결과를 함께 받는다.
+     *
+     * @param matchId
+     * @param setCount
+     * @return 반영된 MatchInfoDto
+     */
+    public Mono<MatchInfoDto> pollNow(Long matchId, Integer setCount) {
+        MatchSetKey key = new MatchSetKey(matchId, setCount);
+        PollState pollState = pollStates.computeIfAbsent(key, k -> new PollState());
+
+        synchronized (pollState) {
+            if (pollState.inFlight) {
+                return matchScoreService.updateMatchPlayerScore(matchId, setCount, System.currentTimeMillis() / 1000);
+            }
+            pollState.attempt = 0;
+            pollState.inFlight = true;
+        }
+
+        return poll(key);
+    }
+
+    private boolean markInFlight(MatchSetKey key) {
+        PollState pollState = pollStates.get(key);
+        if (pollState == null) return false;
+
+        synchronized (pollState) {
+            if (pollState.inFlight) return false;
+            pollState.inFlight = true;
+            return true;
+        }
+    }
+
+    private Mono<MatchInfoDto> poll(MatchSetKey key) {
+        long endTime = System.currentTimeMillis() / 1000;
+
+        return matchScoreService.updateMatchPlayerScore(key.matchId, key.setCount, endTime)
+                .doOnNext(matchInfoDto -> {
+                    pollStates.remove(key);
+                    simpMessagingTemplate.convertAndSend("/match/" + key.matchId + "/" + key.setCount, matchInfoDto);
+                })
+                .doOnError(e -> handlePollError(key, e));
+    }
+
+    private void handlePollError(MatchSetKey key, Throwable e) {
+        if (e instanceof MatchAlreadyUpdateException || e instanceof MatchNotFoundException) {
+            pollStates.remove(key);
+            return;
+        }
+
+        PollState pollState = pollStates.get(key);
+        if (pollState == null) return;
+
+        synchronized (pollState) {
+            long backoff = Math.min(maxBackoffMillis, baseBackoffMillis << Math.min(pollState.attempt, 16));
+            long jitter = ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+
+            pollState.attempt++;
+            pollState.lastPolledAt = System.currentTimeMillis();
+            pollState.nextPollAt = pollState.lastPolledAt + backoff / 2 + jitter;
+            pollState.inFlight = false;
+        }
+
+        if (e instanceof MatchResultIdNotFoundException) {
+            log.debug("매치 결과 대기 중 matchId = {}, matchSet = {}, attempt = {}", key.matchId, key.setCount, pollState.attempt);
+        } else {
+            log.warn("매치 결과 폴링 실패 matchId = {}, matchSet = {} : {}", key.matchId, key.setCount, e.getMessage());
+        }
+    }
+
+
+    private record MatchSetKey(Long matchId, Integer setCount) {
+    }
+
+    private static class PollState {
+
+        private int attempt;
+        private long nextPollAt;
+        private long lastPolledAt;
+        private boolean inFlight;
+
+        private synchronized boolean isDue(long now) {
+            return !inFlight && nextPollAt <= now;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package leaguehub.leaguehubbackend.domain.match.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchInfoDto;
+import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchResultIdNotFoundException;
+import leaguehub.leaguehubbackend.global.redis.service.RedisLockService;
+import leaguehub.leaguehubbackend.global.retry.OptimisticRetryExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Slf4j
+@Service
+public class MatchScoreService {
+
+    private static final String LOCK_KEY_FORMAT = "matchSet:%d:%d:scoreLock";
+    private static final Duration REMOTE_WAIT_INTERVAL = Duration.ofMillis(500);
+
+    private final MatchPlayerService matchPlayerService;
+    private final RedisLockService redisLockService;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final Duration lockTtl;
+    private final Counter joinedCounter;
+    private final Counter remoteWaitCounter;
+    private final Map<MatchSetKey, Mono<MatchInfoDto>> inFlightScores = new ConcurrentHashMap<>();
+
+    public MatchScoreService(MatchPlayerService matchPlayerService, RedisLockService redisLockService,
+                             OptimisticRetryExecutor optimisticRetryExecutor, MeterRegistry meterRegistry,
+                             @Value("${match.score-lock.ttl-seconds:60}") long lockTtlSeconds) {
+        this.matchPlayerService = matchPlayerService;
+        this.redisLockService = redisLockService;
+        this.optimisticRetryExecutor = optimisticRetryExecutor;
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+        this.joinedCounter = Counter.builder("match.score.single-flight")
+                .tag("result", "joined")
+                .register(meterRegistry);
+        this.remoteWaitCounter = Counter.builder("match.score.single-flight")
+                .tag("result", "remote-wait")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * 매치 세트 점수 업데이트
+     * 같은 세트에 대한 요청이 동시에 들어오면 한 번만 계산하고 모든 요청에 같은 결과를 돌려준다.
+     * 다른 서버가 계산 중이면(Redis 락) 라이엇을 호출하지 않고 반영된 결과를 기다린다.
+     *
+     * @param matchId
+     * @param setCount
+     * @param endTime
+     * @return MatchInfoDto
+     */
+    public Mono<MatchInfoDto> updateMatchPlayerScore(Long matchId, Integer setCount, Long endTime) {
+        MatchSetKey key = new MatchSetKey(matchId, setCount);
+
+        return Mono.defer(() -> {
+            AtomicReference<Mono<MatchInfoDto>> created = new AtomicReference<>();
+            Mono<MatchInfoDto> flight = inFlightScores.computeIfAbsent(key, k -> {
+                AtomicReference<Mono<MatchInfoDto>> self = new AtomicReference<>();
+                self.set(lockAndScore(matchId, setCount, endTime)
+                        .doFinally(signalType -> inFlightScores.remove(k, self.get()))
+                        .cache());
+                created.set(self.get());
+                return self.get();
+            });
+
+            if (created.get() == null) joinedCounter.increment();
+            return flight;
+        });
+    }
+
+    private Mono<MatchInfoDto> lockAndScore(Long matchId, Integer setCount, Long endTime) {
+        String lockKey = String.format(LOCK_KEY_FORMAT, matchId, setCount);
+
+        return Mono.fromCallable(() -> redisLockService.tryLock(lockKey, lockTtl))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(token -> token
+                        .map(lockToken -> scoreWithLock(matchId, setCount, endTime, lockKey, lockToken))
+                        .orElseGet(() -> awaitRemoteScore(matchId, setCount, lockKey)));
+    }
+
+    /**
+     * 락을 잡은 동안 만료 시간의 1/3 마다 락을 연장하고, 계산 자체는 락 만료 시간 안에 끝나지 않으면 실패로 본다.
+     * 라이엇 게이트웨이 대기가 길어져도 다른 서버가 락 만료를 보고 중복 계산하지 않고,
+     * 다른 서버의 대기(awaitRemoteScore)도 같은 만료 시간 안에 끝난다.
+     */
+    private Mono<MatchInfoDto> scoreWithLock(Long matchId, Integer setCount, Long endTime, String lockKey, String lockToken) {
+        Duration renewInterval = lockTtl.dividedBy(3);
+
+        return Mono.using(
+                () -> Flux.interval(renewInterval, renewInterval, Schedulers.boundedElastic())
+                        .subscribe(tick -> {
+                            if (!redisLockService.renew(lockKey, lockToken, lockTtl))
+                                log.warn("점수 계산 락 연장 실패 key = {}", lockKey);
+                        }),
+                renewal -> scoreMatchSet(matchId, setCount, endTime)
+                        .timeout(lockTtl, Mono.error(MatchResultIdNotFoundException::new)),
+                renewal -> {
+                    renewal.dispose();
+                    Schedulers.boundedElastic().schedule(() -> redisLockService.unlock(lockKey, lockToken));
+                });
+    }
+
+    /**
+     * 1. 짧은 읽기 트랜잭션으로 대상 매치 플레이어 조회
+     * 2. 트랜잭션 없이 라이엇 API 논블로킹 호출
+     * 3. 짧은 쓰기 트랜잭션으로 등수 반영, 실격 등 다른 요청과 충돌하면 다시 읽어서 반영
+     */
+    private Mono<MatchInfoDto> scoreMatchSet(Long matchId, Integer setCount, Long endTime) {
+        return Mono.fromCallable(() -> matchPlayerService.getScoreTarget(matchId, setCount))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(matchScoreTargetDto -> matchPlayerService.requestMatchDetailFromRiot(matchScoreTargetDto, endTime))
+                .publishOn(Schedulers.boundedElastic())
+                .map(matchDetailFromRiot -> optimisticRetryExecutor.execute("match.score",
+                        () -> matchPlayerService.applyMatchResult(matchId, setCount, matchDetailFromRiot)));
+    }
+
+    /**
+     * 다른 서버가 계산한 결과를 기다린다.
+     * 락이 풀렸는데 반영되지 않았다면 다른 서버의 계산이 실패한 것으로 본다.
+     * 락을 잡은 서버의 계산은 락 만료 시간 안에 끝나거나 실패하므로 대기도 같은 시간으로 제한한다.
+     */
+    private Mono<MatchInfoDto> awaitRemoteScore(Long matchId, Integer setCount, String lockKey) {
+        remoteWaitCounter.increment();
+        long maxWaitCount = lockTtl.toMillis() / REMOTE_WAIT_INTERVAL.toMillis();
+
+        return Mono.fromCallable(() -> {
+                    boolean locked = redisLockService.isLocked(lockKey);
+                    MatchInfoDto scoredMatchInfo = matchPlayerService.findScoredMatchInfo(matchId, setCount).orElse(null);
+                    if (scoredMatchInfo == null && !locked) throw new MatchResultIdNotFoundException();
+                    return scoredMatchInfo;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .repeatWhenEmpty(Math.toIntExact(maxWaitCount), repeat -> repeat.delayElements(REMOTE_WAIT_INTERVAL))
+                .switchIfEmpty(Mono.error(MatchResultIdNotFoundException::new));
+    }
+
+
+    private record MatchSetKey(Long matchId, Integer setCount) {
+    }
+}
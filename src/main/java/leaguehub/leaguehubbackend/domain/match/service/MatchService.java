@@ -3,18 +3,22 @@ package leaguehub.leaguehubbackend.domain.match.service;
 import leaguehub.leaguehubbackend.domain.channel.entity.Channel;
 import leaguehub.leaguehubbackend.domain.channel.exception.exception.ChannelRequestException;
 import leaguehub.leaguehubbackend.domain.channel.exception.exception.ChannelStatusAlreadyException;
+import leaguehub.leaguehubbackend.domain.match.dto.BracketDelta;
 import leaguehub.leaguehubbackend.domain.match.dto.MatchCallAdminDto;
 import leaguehub.leaguehubbackend.domain.match.dto.MatchInfoDto;
 import leaguehub.leaguehubbackend.domain.match.dto.MatchPlayerInfo;
+import leaguehub.leaguehubbackend.domain.match.entity.BracketStructure;
 import leaguehub.leaguehubbackend.domain.match.entity.Match;
-import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayer;
 import leaguehub.leaguehubbackend.domain.match.entity.MatchSet;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStanding;
 import leaguehub.leaguehubbackend.domain.match.entity.MatchStatus;
 import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchNotEnoughPlayerException;
 import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchNotFoundException;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchBulkJdbcRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchBulkJdbcRepository.MatchPlayerAssignment;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
-import leaguehub.leaguehubbackend.domain.match.repository.MatchSetRepository;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewChangedEvent;
 import leaguehub.leaguehubbackend.domain.member.entity.Member;
 import leaguehub.leaguehubbackend.domain.member.service.MemberService;
 import leaguehub.leaguehubbackend.domain.participant.entity.Participant;
@@ -24,49 +28,66 @@ import leaguehub.leaguehubbackend.domain.participant.exception.exception.Partici
 import leaguehub.leaguehubbackend.domain.participant.exception.exception.ParticipantRejectedRequestedException;
 import leaguehub.leaguehubbackend.domain.participant.repository.ParticipantRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static leaguehub.leaguehubbackend.domain.channel.entity.ChannelStatus.PROCEEDING;
 import static leaguehub.leaguehubbackend.domain.match.entity.MatchStatus.END;
-import static leaguehub.leaguehubbackend.domain.participant.entity.ParticipantStatus.DISQUALIFICATION;
+import static leaguehub.leaguehubbackend.domain.participant.entity.ParticipantStatus.DROPOUT;
 import static leaguehub.leaguehubbackend.domain.participant.entity.ParticipantStatus.PROGRESS;
 import static leaguehub.leaguehubbackend.domain.participant.entity.Role.PLAYER;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class MatchService {
 
-    private static final int MIN_PLAYERS_FOR_SUB_MATCH = 8;
+    private static final int MATCH_PROGRESS_PLAYER_COUNT = 5;
     private final MatchRepository matchRepository;
     private final MatchPlayerRepository matchPlayerRepository;
     private final ParticipantRepository participantRepository;
-    private final MatchSetRepository matchSetRepository;
     private final MemberService memberService;
-    private static final int INITIAL_RANK = 1;
+    private final MatchStandingService matchStandingService;
+    private final MatchBulkJdbcRepository matchBulkJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    //true 면 채널 생성 시 매치를 미리 만들지 않고 경기 배정 시 해당 라운드만 만든다.
+    @Value("${match.bracket.lazy:false}")
+    private boolean lazyBracket;
 
 
     /**
      * 채널을 만들 때 빈 값인 매치를 만듦
+     * 최대 참가자 수로 계산한 대진표 구조대로 모든 라운드의 매치를 메모리에서 만든 뒤 한 번에 저장한다.
+     * 지연 생성 모드에서는 아무것도 만들지 않는다.
      *
      * @param channel
      * @param maxPlayers
+     * @return 저장한 매치 수
      */
-    public void createSubMatches(Channel channel, int maxPlayers) {
-        int currentPlayers = maxPlayers;
-        int matchRoundIndex = 1;
+    public int createSubMatches(Channel channel, int maxPlayers) {
+        if (lazyBracket) return 0;
 
-        while (currentPlayers >= MIN_PLAYERS_FOR_SUB_MATCH) {
-            currentPlayers = createSubMatchesForRound(channel, currentPlayers, matchRoundIndex);
-            matchRoundIndex++;
-        }
+        BracketStructure bracketStructure = BracketStructure.of(maxPlayers);
+        List<Match> matchList = new ArrayList<>();
+
+        bracketStructure.getRoundList()
+                .forEach(matchRound -> createSubMatchesForRound(channel, bracketStructure, matchRound, matchList));
+
+        int writtenRows = matchBulkJdbcRepository.insertMatches(matchList);
+        log.info("대진표 매치 생성 channelId = {}, 저장한 행 = {}", channel.getId(), writtenRows);
+
+        return writtenRows;
     }
 
 
@@ -93,28 +114,60 @@ public class MatchService {
 
         List<Participant> playerList = getParticipantList(channelLink, matchRound);
 
-        assignSubMatches(matchList, playerList);
+        if (matchList.isEmpty())
+            matchList = materializeRound(participant.getChannel(), matchRound);
+
         participant.getChannel().updateChannelLiveRound(matchRound);
+        assignSubMatches(matchList, playerList);
+
+        eventPublisher.publishEvent(MatchViewChangedEvent.ofMatches(channelLink,
+                matchList.stream().map(Match::getId).collect(Collectors.toList()),
+                List.of(BracketDelta.roundAssigned(matchRound))));
     }
 
 
+    /**
+     * 라운드별 경기 횟수 설정
+     * 채널에 라운드별 값을 저장하고, 이미 만든 매치는 라운드마다 UPDATE 한 번으로 바꾼다.
+     *
+     * @param channelLink
+     * @param roundCount 마지막 라운드부터 순서대로(예: [결승, 4강, 8강])
+     */
     public void setMatchSetCount(String channelLink, List<Integer> roundCount) {
         Participant participant = checkHost(channelLink);
 
         checkChannelProceeding(participant);
 
-        List<Match> findMatchList = matchRepository.findAllByChannel_ChannelLink(channelLink);
+        Channel channel = participant.getChannel();
+        channel.updateMatchSetCountList(roundCount);
+
+        int updatedCount = updateMatchSetCount(channel.getId(), roundCount);
 
-        if (findMatchList.isEmpty())
+        if (updatedCount == 0 && !lazyBracket)
             throw new MatchNotFoundException();
 
-        updateMatchSetCount(roundCount, findMatchList);
+        //점수판에도 경기 횟수가 있으므로 채널의 모든 매치를 지운다.
+        eventPublisher.publishEvent(MatchViewChangedEvent.ofMatches(channelLink, matchRepository.findIdsByChannelId(channel.getId()),
+                List.of(BracketDelta.setCount())));
     }
 
-    public void processMatchSet(String channelLink) {
+    /**
+     * 채널 경기 시작 시 모든 매치의 세트를 만든다.
+     *
+     * @param channelLink
+     * @return 저장한 매치 세트 수
+     */
+    public int processMatchSet(String channelLink) {
         List<Match> matchList = matchRepository.findAllByChannel_ChannelLink(channelLink);
 
-        createMatchSet(matchList);
+        int writtenRows = createMatchSet(matchList);
+        log.info("대진표 매치 세트 생성 channelLink = {}, 저장한 행 = {}", channelLink, writtenRows);
+
+        //세트 결과 조회에 새 세트가 보이도록 채널 조회 결과를 지운다.
+        eventPublisher.publishEvent(MatchViewChangedEvent.ofMatches(channelLink,
+                matchList.stream().map(Match::getId).collect(Collectors.toList()), List.of()));
+
+        return writtenRows;
     }
 
     public MatchCallAdminDto callAdmin(String channelLink, Long matchId, Long participantId) {
@@ -129,6 +182,7 @@ public class MatchService {
                 .orElseThrow(() -> new MatchNotFoundException());
 
         match.updateCallAlarm();
+        eventPublisher.publishEvent(MatchViewChangedEvent.ofMatch(channelLink, matchId, BracketDelta.alarm(matchId, match.isAlarm())));
 
         MatchCallAdminDto matchCallAdminDto = new MatchCallAdminDto();
         matchCallAdminDto.setCallName(participant.getNickname());
@@ -145,20 +199,50 @@ public class MatchService {
                 .orElseThrow(() -> new MatchNotFoundException());
 
         match.updateOffAlarm();
+        eventPublisher.publishEvent(MatchViewChangedEvent.ofMatch(channelLink, matchId, BracketDelta.alarm(matchId, match.isAlarm())));
     }
 
 
-    private int createSubMatchesForRound(Channel channel, int maxPlayers, int matchRoundIndex) {
-        int currentPlayers = maxPlayers;
-        int tableCount = currentPlayers / MIN_PLAYERS_FOR_SUB_MATCH;
+    private void createSubMatchesForRound(Channel channel, BracketStructure bracketStructure, int matchRound, List<Match> matchList) {
+        int tableCount = bracketStructure.getGroupCount(matchRound);
 
         for (int tableIndex = 1; tableIndex <= tableCount; tableIndex++) {
-            String groupName = "Group " + (char) (64 + tableIndex);
-            Match match = Match.createMatch(matchRoundIndex, channel, groupName);
-            matchRepository.save(match);
+            matchList.add(Match.createMatch(matchRound, channel, BracketStructure.getGroupName(tableIndex)));
         }
+    }
+
+    /**
+     * 지연 생성 모드에서 경기 배정할 라운드의 매치와 매치 세트를 만든다.
+     * 경기 횟수는 채널에 저장된 라운드별 경기 횟수를 사용한다.
+     *
+     * @param channel
+     * @param matchRound
+     * @return 만든 매치
+     */
+    private List<Match> materializeRound(Channel channel, Integer matchRound) {
+        BracketStructure bracketStructure = channel.getBracketStructure();
+
+        if (!lazyBracket || !bracketStructure.hasRound(matchRound))
+            throw new MatchNotFoundException();
+
+        int tableCount = bracketStructure.getGroupCount(matchRound);
+        int matchSetCount = channel.findMatchSetCount(matchRound).orElse(Match.DEFAULT_MATCH_SET_COUNT);
+
+        List<Match> matchList = IntStream.rangeClosed(1, tableCount)
+                .mapToObj(tableIndex -> {
+                    Match match = Match.createMatch(matchRound, channel, BracketStructure.getGroupName(tableIndex));
+                    match.updateMatchSetCount(matchSetCount);
+                    return match;
+                })
+                .collect(Collectors.toList());
 
-        return currentPlayers / 2;
+        matchBulkJdbcRepository.insertMatches(matchList);
+
+        List<Match> savedMatchList = findMatchList(channel.getChannelLink(), matchRound);
+        int writtenRows = savedMatchList.size() + createMatchSet(savedMatchList);
+        log.info("라운드 매치 생성 channelLink = {}, matchRound = {}, 저장한 행 = {}", channel.getChannelLink(), matchRound, writtenRows);
+
+        return savedMatchList;
     }
 
     public Participant getParticipant(Long memberId, String channelLink) {
@@ -174,7 +258,7 @@ public class MatchService {
     }
 
     public List<Match> findMatchList(String channelLink, Integer matchRound) {
-        List<Match> matchList = matchRepository.findAllByChannel_ChannelLinkAndMatchRoundOrderByMatchName(channelLink, matchRound);
+        List<Match> matchList = matchRepository.findAllByChannel_ChannelLinkAndMatchRoundOrderById(channelLink, matchRound);
         return matchList;
     }
 
@@ -186,6 +270,14 @@ public class MatchService {
         return playerList;
     }
 
+    /**
+     * 참가자를 매치에 나눠 배정한다.
+     * 매치 플레이어와 순위표는 JDBC 배치로 묶어서 저장하고, 매치 상태는 UPDATE 한 번으로 PROGRESS 로 바꾼다.
+     * 매치 상태 변경 후 영속성 컨텍스트를 비우므로 이후 엔티티 변경은 반영되지 않는다.
+     *
+     * @param matchList
+     * @param playerList
+     */
     private void assignSubMatches(List<Match> matchList, List<Participant> playerList) {
         Collections.shuffle(playerList);
 
@@ -194,60 +286,67 @@ public class MatchService {
         int playersPerMatch = totalPlayers / matchCount;
         int remainingPlayers = totalPlayers % matchCount;
         int playerIndex = 0;
+        List<MatchPlayerAssignment> assignments = new ArrayList<>();
 
         for (Match match : matchList) {
             int currentPlayerCount = playersPerMatch + (remainingPlayers > 0 ? 1 : 0);
 
             for (int i = 0; i < currentPlayerCount; i++) {
                 Participant player = playerList.get(playerIndex);
-                MatchPlayer matchPlayer = MatchPlayer.createMatchPlayer(player, match);
-                matchPlayerRepository.save(matchPlayer);
+                assignments.add(new MatchPlayerAssignment(match.getId(), player.getId()));
 
                 playerIndex++;
                 remainingPlayers--;
             }
-
-            match.updateMatchStatus(MatchStatus.PROGRESS);
         }
+
+        List<Long> matchIds = matchList.stream()
+                .map(Match::getId)
+                .collect(Collectors.toList());
+
+        matchBulkJdbcRepository.insertMatchPlayers(assignments);
+        matchStandingService.createMatchStandings(matchList, matchPlayerRepository.findAllWithParticipantByMatchIds(matchIds));
+        matchRepository.updateMatchStatusByIds(matchIds, MatchStatus.PROGRESS);
     }
 
 
-    public MatchInfoDto convertMatchInfoDto(Match match, List<MatchPlayer> matchPlayers) {
+    public MatchInfoDto convertMatchInfoDto(Match match, MatchStanding matchStanding) {
         return MatchInfoDto.builder().matchId(match.getId())
                 .matchName(match.getMatchName())
                 .matchStatus(match.getMatchStatus())
                 .matchRound(match.getMatchRound())
                 .matchSetCount(match.getMatchSetCount())
                 .matchCurrentSet(match.getMatchCurrentSet())
-                .matchPlayerInfoList(convertMatchPlayerInfoList(matchPlayers))
+                .matchPlayerInfoList(convertMatchPlayerInfoList(matchStanding))
                 .matchAlarm(match.isAlarm())
                 .build();
     }
 
 
-    public List<MatchPlayerInfo> convertMatchPlayerInfoList(List<MatchPlayer> matchPlayers) {
-        List<MatchPlayerInfo> matchPlayerInfoList = matchPlayers.stream()
-                .map(matchPlayer -> new MatchPlayerInfo(
-                        matchPlayer.getId(),
-                        matchPlayer.getParticipant().getId(),
-                        matchPlayer.getParticipant().getGameId(),
-                        matchPlayer.getParticipant().getGameTier(),
-                        matchPlayer.getPlayerStatus(),
-                        matchPlayer.getPlayerScore(),
-                        matchPlayer.getMatchPlayerResultStatus(),
-                        matchPlayer.getParticipant().getProfileImageUrl(),
-                        matchPlayer.getPlayerScore()
+    /**
+     * 누적 순위표의 순서와 순위를 그대로 사용한다.
+     *
+     * @param matchStanding
+     * @return
+     */
+    public List<MatchPlayerInfo> convertMatchPlayerInfoList(MatchStanding matchStanding) {
+        return matchStanding.getEntries().stream()
+                .map(entry -> new MatchPlayerInfo(
+                        entry.getMatchPlayerId(),
+                        entry.getParticipantId(),
+                        entry.getGameId(),
+                        entry.getGameTier(),
+                        entry.getPlayerStatus(),
+                        entry.getScore(),
+                        entry.getMatchPlayerResultStatus(),
+                        entry.getProfileSrc(),
+                        entry.getRank()
                 ))
-                .sorted(Comparator.comparingInt(MatchPlayerInfo::getScore).reversed()
-                        .thenComparing(MatchPlayerInfo::getGameId))
                 .collect(Collectors.toList());
-
-        assignRankToMatchPlayerInfoList(matchPlayerInfoList);
-
-        return matchPlayerInfoList;
     }
 
-    private Participant checkHost(String channelLink) {
+
+    public Participant checkHost(String channelLink) {
         Member member = memberService.findCurrentMember();
         Participant participant = getParticipant(member.getId(), channelLink);
         checkRoleHost(participant.getRole());
@@ -255,32 +354,28 @@ public class MatchService {
         return participant;
     }
 
+    /**
+     * 이전 라운드 결과로 참가자 진출 / 탈락 반영
+     * 라운드 전체 매치를 쿼리 한 번으로 순위를 매기고 탈락자는 UPDATE 한 번으로 바꾼다.
+     */
     private void checkUpdateScore(List<Match> matchList) {
-        for (Match currentMatch : matchList) {
-            List<MatchPlayer> matchplayerList = matchPlayerRepository.findAllByMatch_IdOrderByPlayerScoreDesc(currentMatch.getId());
-
-            int progressCount = 0;
-
-            for (MatchPlayer matchPlayer : matchplayerList) {
-                if (progressCount >= 5) {
-                    if (!matchPlayer.getParticipant().getParticipantStatus().equals(DISQUALIFICATION)) {
-                        matchPlayer.getParticipant().dropoutParticipantStatus();
-                    }
-                    continue;
-                }
-
-                if (matchPlayer.getParticipant().getParticipantStatus().equals(PROGRESS)) {
-                    progressCount++;
-                } else {
-                    matchPlayer.getParticipant().dropoutParticipantStatus();
-                }
-            }
-        }
+        if (matchList.isEmpty()) return;
+
+        List<Long> matchIds = matchList.stream().map(Match::getId).collect(Collectors.toList());
+        List<Long> dropoutParticipantIds = matchPlayerRepository
+                .findDropoutParticipantIdsByMatchIds(matchIds, MATCH_PROGRESS_PLAYER_COUNT);
+
+        if (dropoutParticipantIds.isEmpty()) return;
+
+        int updatedCount = participantRepository.updateParticipantStatusByIds(dropoutParticipantIds, DROPOUT);
+        log.info("라운드 진출 처리 matchCount = {}, dropout = {}", matchIds.size(), updatedCount);
     }
 
     private void checkPreviousMatchEnd(String channelLink, Integer matchRound) {
         if (matchRound != 1) {
             List<Match> previousMatch = findMatchList(channelLink, matchRound - 1);
+            if (previousMatch.isEmpty()) throw new MatchNotFoundException();
+
             previousMatch.stream()
                     .filter(match -> !match.getMatchStatus().equals(END))
                     .findAny()
@@ -299,28 +394,17 @@ public class MatchService {
     }
 
 
-    private void assignRankToMatchPlayerInfoList(List<MatchPlayerInfo> matchPlayerInfoList) {
-        int rank = INITIAL_RANK;
-        for (int i = 0; i < matchPlayerInfoList.size(); i++) {
-            MatchPlayerInfo info = matchPlayerInfoList.get(i);
-            if (i > 0 && !info.getScore().equals(matchPlayerInfoList.get(i - 1).getScore())) {
-                rank = i + 1;
-            }
-            info.setMatchRank(rank);
-        }
-    }
-
-
-    private static void updateMatchSetCount(List<Integer> roundCount, List<Match> findMatchList) {
+    private int updateMatchSetCount(Long channelId, List<Integer> roundCount) {
+        int updatedCount = 0;
         int responseIndex = 0;
-        for (int i = roundCount.size(); i >= 1; i--) {
-            for (Match match : findMatchList) {
-                if (match.getMatchRound().equals(i))
-                    match.updateMatchSetCount(roundCount.get(responseIndex));
-            }
+
+        for (int matchRound = roundCount.size(); matchRound >= 1; matchRound--) {
+            updatedCount += matchRepository.updateMatchSetCountByChannelIdAndMatchRound(
+                    channelId, matchRound, roundCount.get(responseIndex));
             responseIndex++;
         }
 
+        return updatedCount;
     }
 
     private static void checkChannelProceeding(Participant participant) {
@@ -328,11 +412,13 @@ public class MatchService {
             throw new ChannelStatusAlreadyException();
     }
 
-    private void createMatchSet(List<Match> matchList) {
-        matchList.stream()
+    private int createMatchSet(List<Match> matchList) {
+        List<MatchSet> matchSets = matchList.stream()
                 .flatMap(match -> IntStream.rangeClosed(1, match.getMatchSetCount())
                         .mapToObj(setCount -> MatchSet.createMatchSet(match, setCount)))
-                .forEach(matchSetRepository::save);
+                .collect(Collectors.toList());
+
+        return matchBulkJdbcRepository.insertMatchSets(matchSets);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package leaguehub.leaguehubbackend.domain.match.service;
+
+import leaguehub.leaguehubbackend.domain.match.dto.MatchRankResultDto;
+import leaguehub.leaguehubbackend.domain.match.entity.*;
+import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchNotFoundException;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchBulkJdbcRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchSetRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchStandingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 매치 누적 순위표(MatchStanding) 관리
+ * 순위표가 없는 매치(순위표 도입 전에 배정된 매치)는 MatchPlayer, MatchRank 로 다시 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MatchStandingService {
+
+    private final MatchStandingRepository matchStandingRepository;
+    private final MatchRepository matchRepository;
+    private final MatchPlayerRepository matchPlayerRepository;
+    private final MatchSetRepository matchSetRepository;
+    private final MatchBulkJdbcRepository matchBulkJdbcRepository;
+
+
+    /**
+     * 경기 배정 시 매치 플레이어로 빈 순위표를 만들어 한 번에 저장한다.
+     *
+     * @param matchList
+     * @param matchPlayers 배정된 매치 플레이어 전체
+     */
+    public void createMatchStandings(List<Match> matchList, List<MatchPlayer> matchPlayers) {
+        Map<Long, List<MatchStandingEntry>> entriesByMatchId = matchPlayers.stream()
+                .collect(Collectors.groupingBy(matchPlayer -> matchPlayer.getMatch().getId(),
+                        Collectors.mapping(MatchStandingEntry::createMatchStandingEntry, Collectors.toList())));
+
+        List<MatchStanding> matchStandings = matchList.stream()
+                .map(match -> MatchStanding.createMatchStanding(match, entriesByMatchId.getOrDefault(match.getId(), List.of())))
+                .collect(Collectors.toList());
+
+        matchBulkJdbcRepository.insertMatchStandings(matchStandings);
+    }
+
+    /**
+     * 점수판 조회용 순위표
+     * 순위표가 없으면 다시 만들어 반환하고 저장은 다음 쓰기 요청에 맡긴다.
+     *
+     * @param matchId
+     * @return MatchStanding
+     */
+    @Transactional(readOnly = true)
+    public MatchStanding getMatchStanding(Long matchId) {
+        return matchStandingRepository.findByMatchIdWithMatch(matchId)
+                .orElseGet(() -> rebuildMatchStanding(findMatch(matchId)));
+    }
+
+    /**
+     * 갱신용 순위표, 락 없이 읽고 @Version 으로 다른 갱신과의 충돌을 확인한다.
+     * 충돌하면 점수 반영, 체크인, 실격을 실행한 OptimisticRetryExecutor 가 처음부터 다시 실행한다.
+     *
+     * @param matchId
+     * @return MatchStanding
+     */
+    public MatchStanding getMatchStandingForUpdate(Long matchId) {
+        return matchStandingRepository.findByMatch_Id(matchId)
+                .orElseGet(() -> matchStandingRepository.save(rebuildMatchStanding(findMatch(matchId))));
+    }
+
+    /**
+     * 점수가 반영된 세트의 등수를 순위표에 누적한다.
+     *
+     * @param matchStanding
+     * @param setCount
+     * @param matchRankResultDtoList 실격을 제외한 플레이어의 등수
+     */
+    public void applyMatchSet(MatchStanding matchStanding, Integer setCount, List<MatchRankResultDto> matchRankResultDtoList) {
+        matchStanding.applyMatchSet(setCount, toPlacementByGameId(matchRankResultDtoList));
+    }
+
+    public void updatePlayerStatus(MatchPlayer matchPlayer, PlayerStatus playerStatus) {
+        getMatchStandingForUpdate(matchPlayer.getMatch().getId())
+                .updatePlayerStatus(matchPlayer.getId(), playerStatus);
+    }
+
+    public void disqualify(MatchPlayer matchPlayer) {
+        getMatchStandingForUpdate(matchPlayer.getMatch().getId())
+                .disqualify(matchPlayer.getParticipant().getId());
+    }
+
+    private MatchStanding rebuildMatchStanding(Match match) {
+        List<MatchPlayer> matchPlayers = matchPlayerRepository.findAllByMatch_IdOrderByPlayerScoreDesc(match.getId());
+        if (matchPlayers.isEmpty()) throw new MatchNotFoundException();
+
+        MatchStanding matchStanding = MatchStanding.createMatchStanding(match, matchPlayers.stream()
+                .map(MatchStandingEntry::createMatchStandingEntry)
+                .collect(Collectors.toList()));
+
+        matchSetRepository.findMatchSetsByMatch_Id(match.getId()).stream()
+                .filter(MatchSet::getUpdateScore)
+                .sorted(Comparator.comparing(MatchSet::getSetCount))
+                .forEach(matchSet -> matchStanding.restoreMatchSet(matchSet.getSetCount(), matchSet.getMatchRankList().stream()
+                        .collect(Collectors.toMap(MatchRank::getGameId, MatchRank::getPlacement, (first, second) -> first))));
+
+        return matchStanding;
+    }
+
+    private Match findMatch(Long matchId) {
+        return matchRepository.findById(matchId)
+                .orElseThrow(MatchNotFoundException::new);
+    }
+
+    private static Map<String, Integer> toPlacementByGameId(List<MatchRankResultDto> matchRankResultDtoList) {
+        return matchRankResultDtoList.stream()
+                .collect(Collectors.toMap(MatchRankResultDto::getGameId, MatchRankResultDto::getPlacement, (first, second) -> first));
+    }
+}
@@ -1,103 +1,83 @@
 package leaguehub.leaguehubbackend.domain.match.service;
 
 import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchResultIdNotFoundException;
-import leaguehub.leaguehubbackend.domain.participant.exception.exception.ParticipantGameIdNotFoundException;
-import leaguehub.leaguehubbackend.global.exception.global.exception.GlobalServerErrorException;
+import leaguehub.leaguehubbackend.global.riot.RiotAccountClient;
+import leaguehub.leaguehubbackend.global.riot.RiotApiGateway;
+import leaguehub.leaguehubbackend.global.riot.RiotJsonDecoders;
+import leaguehub.leaguehubbackend.global.riot.RiotMatchResultStore;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+
+import static leaguehub.leaguehubbackend.global.riot.RiotApiPriority.SCORE_UPDATE;
 
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class MatchWebClientService {
 
 
-    private final WebClient webClient;
-    private final JSONParser jsonParser;
-    @Value("${riot-api-key-1}")
-    private String riot_api_key_1;
-    @Value("${riot-api-key-2}")
-    private String riot_api_key_2;
+    private final RiotApiGateway riotApiGateway;
+    private final RiotAccountClient riotAccountClient;
+    private final RiotMatchResultStore riotMatchResultStore;
 
 
     /**
-     * 소환사의 라이엇 puuid를 얻는 메서드
+     * 소환사의 라이엇 puuid를 얻는 메서드(논블로킹)
      *
      * @param name 게임 닉네임
      * @return puuid
      */
-    public String getSummonerPuuid(String name) {
-        String gameId = name.split("#")[0];
-        String gameTag = name.split("#")[1];
-
-        String summonerPuuidUrl = "https://asia.api.riotgames.com/riot/account/v1/accounts/by-riot-id/";
-
-        JSONObject userAccount = webClient.get()
-                .uri(summonerPuuidUrl + gameId + "/" + gameTag + riot_api_key_1)
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, response -> Mono.error(new ParticipantGameIdNotFoundException()))
-                .onStatus(HttpStatusCode::is5xxServerError, response -> Mono.error(new GlobalServerErrorException()))
-                .bodyToMono(JSONObject.class)
-                .block();
-
-
-        String puuid =  userAccount.get("puuid").toString();
-
-        return puuid;
-
+    public Mono<String> requestSummonerPuuid(String name) {
+        return riotAccountClient.requestPuuid(name, SCORE_UPDATE);
     }
 
 
     /**
-     * 게임 Id로 얻은 puuid로 라이엇 서버에 고유 매치 Id 검색
+     * 게임 Id로 얻은 puuid로 라이엇 서버에 고유 매치 Id 검색(논블로킹)
      *
      * @param puuid
+     * @param endTime
      * @return
      */
-    public String getMatch(String puuid, long endTime) {
-//        long endTime = System.currentTimeMillis() / 1000;
+    public Mono<String> requestMatch(String puuid, long endTime) {
         long statTime = 0;
 
         String matchUrl = "https://asia.api.riotgames.com/tft/match/v1/matches/by-puuid/";
         String Option = "/ids?start=0&endTime=" + endTime + "&startTime=" + statTime + "&count=1";
 
-
-        JSONArray matchArray = webClient.get()
-                .uri(matchUrl + puuid + Option + riot_api_key_2)
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, response -> Mono.error(new MatchResultIdNotFoundException()))
-                .onStatus(HttpStatusCode::is5xxServerError, response -> Mono.error(new GlobalServerErrorException()))
-                .bodyToMono(JSONArray.class)
-                .block();
-
-
-        return matchArray.get(0).toString();
+        return riotApiGateway.get(SCORE_UPDATE, "tft-match-ids-by-puuid", matchUrl + puuid + Option,
+                        RiotJsonDecoders::decodeMatchIds, MatchResultIdNotFoundException::new)
+                .filter(matchIds -> !matchIds.isEmpty())
+                .switchIfEmpty(Mono.error(new MatchResultIdNotFoundException()))
+                .map(matchIds -> matchIds.get(0));
     }
 
 
-
-    @SneakyThrows
-    public JSONObject responseMatchDetail(String matchId) {
+    /**
+     * 라이엇 고유 매치 Id로 참가자별 등수 검색(논블로킹)
+     * 끝난 경기 결과는 바뀌지 않으므로 저장소에 있으면 라이엇 API를 호출하지 않는다.
+     *
+     * @param matchId
+     * @return puuid -> 등수
+     */
+    public Mono<Map<String, Integer>> requestMatchPlacement(String matchId) {
         String matchDetailUrl = "https://asia.api.riotgames.com/tft/match/v1/matches/";
 
-        return (JSONObject) jsonParser.parse
-                (webClient
-                        .get()
-                        .uri(matchDetailUrl + matchId + riot_api_key_1)
-                        .retrieve()
-                        .onStatus(HttpStatusCode::is5xxServerError, clientResponse -> Mono.error(new GlobalServerErrorException()))
-                        .bodyToMono(JSONObject.class)
-                        .block().toJSONString());
+        Mono<Map<String, Integer>> requestPlacement = riotApiGateway.get(SCORE_UPDATE, "tft-match-by-id", matchDetailUrl + matchId,
+                        RiotJsonDecoders::decodePlacements, MatchResultIdNotFoundException::new)
+                .filter(placementByPuuid -> !placementByPuuid.isEmpty())
+                .switchIfEmpty(Mono.error(new MatchResultIdNotFoundException()))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(placementByPuuid -> riotMatchResultStore.put(matchId, placementByPuuid));
+
+        return Mono.fromCallable(() -> riotMatchResultStore.get(matchId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(requestPlacement);
     }
 
 
@@ -0,0 +1,207 @@
+package leaguehub.leaguehubbackend.domain.match.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import leaguehub.leaguehubbackend.domain.match.exception.exception.MatchResultIdNotFoundException;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 대진표 조회 응답의 ETag 와 직렬화한 응답 바이트 캐시
+ * ETag 는 "채널 대진표 버전-(조회 대상, 요청자) 해시" 이므로 버전만 읽으면 DB 조회 없이 304 여부를 알 수 있다.
+ * 이 서버가 아직 최신 버전의 무효화를 받지 못했다면(near cache 가 오래됐을 수 있음) ETag 를 내주지 않는다.
+ * 응답 바이트는 요청자와 상관없는 부분만 (채널, 조회 대상)마다 한 번 직렬화하고, 요청자별 필드는 요청마다 붙인다.
+ */
+@Slf4j
+@Component
+public class BracketSnapshotCache {
+
+    private static final String ANONYMOUS_CALLER = "anonymous";
+
+    private final BracketVersionStore bracketVersionStore;
+    private final MatchRepository matchRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Snapshot> snapshots;
+    //이 서버가 near cache 무효화까지 마친 채널별 대진표 버전
+    private final Map<String, Long> appliedVersions;
+    private final Map<Long, String> channelLinkByMatchId;
+
+    public BracketSnapshotCache(BracketVersionStore bracketVersionStore, MatchRepository matchRepository,
+                                ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                @Value("${match.snapshot.max-entries:2000}") int maxEntries) {
+        this.bracketVersionStore = bracketVersionStore;
+        this.matchRepository = matchRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.snapshots = lruMap(maxEntries);
+        this.appliedVersions = lruMap(maxEntries);
+        this.channelLinkByMatchId = lruMap(maxEntries);
+    }
+
+    /**
+     * @param channelLink
+     * @param resource    채널 안에서 조회 대상을 구분하는 값(라운드, 페이지 등)
+     * @return 현재 버전의 강한 ETag, 이 서버의 캐시를 믿을 수 없으면 empty
+     */
+    public Optional<BracketETag> findETag(String channelLink, String resource) {
+        Optional<Long> currentVersion = findVersion(channelLink);
+        if (currentVersion.isEmpty()) return Optional.empty();
+
+        long version = currentVersion.get();
+        long appliedVersion = appliedVersions.computeIfAbsent(channelLink, key -> version);
+
+        if (appliedVersion < version) {
+            counter("untrusted").increment();
+            return Optional.empty();
+        }
+
+        String hash = DigestUtils.md5DigestAsHex((resource + "|" + caller()).getBytes(StandardCharsets.UTF_8));
+        return Optional.of(new BracketETag(version, "\"" + version + "-" + hash.substring(0, 16) + "\""));
+    }
+
+    /**
+     * 같은 버전으로 만든 공통 응답 바이트가 있으면 그대로, 없으면 loader 결과를 직렬화해 저장하고
+     * 요청자별 필드를 붙여 돌려준다.
+     *
+     * @param loader       요청자와 상관없는 응답
+     * @param callerFields 요청자마다 다른 응답 필드, 공통 응답에서는 빼고 저장한다.
+     */
+    public byte[] getBody(String channelLink, String resource, BracketETag eTag, Supplier<?> loader,
+                          Map<String, ?> callerFields) {
+        String snapshotKey = channelLink + "|" + resource;
+
+        Snapshot snapshot = snapshots.get(snapshotKey);
+        if (snapshot != null && snapshot.version() == eTag.version()) {
+            counter("hit").increment();
+            return withCallerFields(snapshot.body(), callerFields);
+        }
+
+        counter("miss").increment();
+        byte[] sharedBody = serializeShared(loader.get(), callerFields.keySet());
+        snapshots.put(snapshotKey, new Snapshot(eTag.version(), sharedBody));
+
+        return withCallerFields(sharedBody, callerFields);
+    }
+
+    //ETag 를 내줄 수 없을 때 저장하지 않고 만든 응답
+    public byte[] createBody(Object sharedValue, Map<String, ?> callerFields) {
+        return withCallerFields(serializeShared(sharedValue, callerFields.keySet()), callerFields);
+    }
+
+    public void recordNotModified() {
+        counter("not-modified").increment();
+    }
+
+    /**
+     * 채널의 near cache 무효화가 끝난 뒤 호출, 이전 버전의 응답 바이트를 지우고 이 버전부터 ETag 를 내준다.
+     */
+    public void onInvalidated(String channelLink, long bracketVersion) {
+        String snapshotPrefix = channelLink + "|";
+        synchronized (snapshots) {
+            snapshots.keySet().removeIf(snapshotKey -> snapshotKey.startsWith(snapshotPrefix));
+        }
+
+        appliedVersions.merge(channelLink, bracketVersion, Math::max);
+    }
+
+    /**
+     * 매치 Id 만 받는 조회의 채널 링크, 매치의 채널은 바뀌지 않으므로 한 번 읽으면 계속 사용한다.
+     */
+    public String findChannelLink(Long matchId) {
+        String channelLink = channelLinkByMatchId.get(matchId);
+        if (channelLink != null) return channelLink;
+
+        channelLink = matchRepository.findChannelLinkById(matchId)
+                .orElseThrow(MatchResultIdNotFoundException::new);
+
+        channelLinkByMatchId.put(matchId, channelLink);
+
+        return channelLink;
+    }
+
+    private static <K, V> Map<K, V> lruMap(int maxEntries) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    private Optional<Long> findVersion(String channelLink) {
+        try {
+            return Optional.of(bracketVersionStore.current(channelLink));
+        } catch (DataAccessException e) {
+            log.warn("대진표 버전 조회 실패 channelLink = {} : {}", channelLink, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    //요청자별 필드는 공통 응답에서 빼야 붙일 때 같은 키가 두 번 나오지 않는다.
+    private byte[] serializeShared(Object value, Set<String> callerFieldNames) {
+        try {
+            if (callerFieldNames.isEmpty()) return objectMapper.writeValueAsBytes(value);
+
+            ObjectNode sharedNode = objectMapper.valueToTree(value);
+            sharedNode.remove(callerFieldNames);
+            return objectMapper.writeValueAsBytes(sharedNode);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            log.error("대진표 응답 직렬화 실패: {}", e.getMessage());
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //{"요청자 필드"...} + {"공통 응답"...} 를 다시 직렬화하지 않고 한 객체로 잇는다.
+    private byte[] withCallerFields(byte[] sharedBody, Map<String, ?> callerFields) {
+        if (callerFields.isEmpty()) return sharedBody;
+
+        byte[] callerBody = serializeShared(callerFields, Set.of());
+        if (sharedBody.length <= 2) return callerBody;
+
+        byte[] body = Arrays.copyOf(callerBody, callerBody.length - 1 + sharedBody.length);
+        body[callerBody.length - 1] = ',';
+        System.arraycopy(sharedBody, 1, body, callerBody.length, sharedBody.length - 1);
+        return body;
+    }
+
+    private String caller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        return authentication == null ? ANONYMOUS_CALLER : authentication.getName();
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("match.snapshot")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param version ETag 를 만든 대진표 버전
+     * @param value   ETag 헤더 값
+     */
+    public record BracketETag(long version, String value) {
+    }
+
+    private record Snapshot(long version, byte[] body) {
+    }
+}
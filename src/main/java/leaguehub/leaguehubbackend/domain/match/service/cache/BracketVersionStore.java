@@ -0,0 +1,38 @@
+package leaguehub.leaguehubbackend.domain.match.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채널별 대진표 버전
+ * 매치가 바뀔 때마다 1 씩 올리고, 조회 응답의 ETag 로 사용한다.
+ * 키가 없으면(처음 조회, Redis 초기화) 현재 시각(ms)에서 시작하므로 이전에 내준 버전보다 작아지지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BracketVersionStore {
+
+    private static final String KEY_PREFIX = "matchView:version:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public long current(String channelLink) {
+        String key = KEY_PREFIX + channelLink;
+        String version = stringRedisTemplate.opsForValue().get(key);
+
+        if (version == null) {
+            stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+            version = stringRedisTemplate.opsForValue().get(key);
+        }
+
+        return Long.parseLong(version);
+    }
+
+    public long bump(String channelLink) {
+        String key = KEY_PREFIX + channelLink;
+        stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+
+        return stringRedisTemplate.opsForValue().increment(key);
+    }
+}
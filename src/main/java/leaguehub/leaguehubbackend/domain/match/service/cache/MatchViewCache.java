@@ -0,0 +1,330 @@
+package leaguehub.leaguehubbackend.domain.match.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 대진표, 점수판 조회 결과 캐시
+ * 프로세스 내부 near cache 를 먼저 보고, 없으면 Redis, 그래도 없으면 DB 에서 읽어 두 곳에 저장한다.
+ * 상태가 바뀌면 서비스가 MatchViewChangedEvent 를 발행하고, 커밋 후 Redis 와 모든 서버의 near cache 에서 지운다.
+ * 같은 때 채널의 대진표 버전을 올리고, 각 서버는 near cache 를 지운 뒤 BracketSnapshotCache 에 그 버전을 알린다.
+ * 저장한 값은 읽기 전의 대진표 버전과 함께 두고 현재 버전과 같을 때만 돌려주므로,
+ * 무효화와 엇갈려 다시 저장된 지난 값(다른 서버가 쓴 값 포함)은 사용되지 않는다.
+ * 조회 결과(near-hit, redis-hit, miss)와 돌려준 값의 나이는 match.view.cache 메트릭으로 남긴다.
+ */
+@Slf4j
+@Component
+public class MatchViewCache implements MessageListener {
+
+    private static final String INVALIDATION_TOPIC = "matchView:invalidation";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final BracketVersionStore bracketVersionStore;
+    private final BracketSnapshotCache bracketSnapshotCache;
+    private final Duration ttl;
+    private final Duration nearCacheTtl;
+    private final boolean enabled;
+    private final Map<String, CachedView> nearCache;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MatchViewCache(StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer redisMessageListenerContainer,
+                          ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                          BracketVersionStore bracketVersionStore, BracketSnapshotCache bracketSnapshotCache,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${match.view-cache.ttl-seconds:600}") long ttlSeconds,
+                          @Value("${match.view-cache.near-ttl-seconds:30}") long nearCacheTtlSeconds,
+                          @Value("${match.view-cache.enabled:true}") boolean enabled,
+                          @Value("${match.view-cache.near-max-entries:10000}") int nearCacheMaxEntries) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.bracketVersionStore = bracketVersionStore;
+        this.bracketSnapshotCache = bracketSnapshotCache;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.nearCacheTtl = Duration.ofSeconds(nearCacheTtlSeconds);
+        this.enabled = enabled;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.nearCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedView> eldest) {
+                return size() > nearCacheMaxEntries;
+            }
+        });
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_TOPIC));
+    }
+
+    public <T> T get(MatchViewKey key, Class<T> type, Supplier<T> loader) {
+        return get(key, objectMapper.constructType(type), loader);
+    }
+
+    /**
+     * 반환 값은 다른 요청과 공유하므로 고치지 않고 복사해서 사용한다.
+     * 값은 DB 에서 읽기 전에 확인한 대진표 버전과 함께 저장하고, 현재 버전과 같을 때만 돌려준다.
+     * loader 는 버전을 읽은 뒤 새 읽기 전용 트랜잭션에서 실행한다.
+     * 이미 트랜잭션 안에서 호출되면 DB 스냅샷이 버전보다 먼저 잡혔을 수 있으므로 읽은 값을 저장하지 않는다.
+     *
+     * @param key
+     * @param type   Redis 에 저장된 JSON 을 읽을 타입
+     * @param loader 캐시에 없을 때 DB 에서 읽는 함수
+     * @return 조회 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(MatchViewKey key, JavaType type, Supplier<T> loader) {
+        if (!enabled) return loader.get();
+
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        Optional<Long> bracketVersion = findBracketVersion(key.channelLink());
+        if (bracketVersion.isEmpty()) return load(loader, inTransaction);
+
+        long version = bracketVersion.get();
+        String redisKey = key.toRedisKey();
+        long now = System.currentTimeMillis();
+
+        CachedView cachedView = nearCache.get(redisKey);
+        if (cachedView != null && cachedView.isValid(version, now)) {
+            recordHit(key.region(), "near-hit", now - cachedView.cachedAt());
+            return (T) cachedView.value();
+        }
+
+        Optional<CachedView> redisView = readRedis(redisKey, type, now)
+                .filter(view -> view.bracketVersion() == version);
+        if (redisView.isPresent()) {
+            putNearCache(redisKey, redisView.get());
+            recordHit(key.region(), "redis-hit", now - redisView.get().cachedAt());
+            return (T) redisView.get().value();
+        }
+
+        counter(key.region(), "miss").increment();
+        T value = load(loader, inTransaction);
+
+        if (inTransaction) {
+            counter(key.region(), "not-stored").increment();
+            return value;
+        }
+
+        //읽는 사이에 버전이 올라갔다면 이미 지난 값이므로 저장하지 않는다.
+        if (findBracketVersion(key.channelLink()).filter(currentVersion -> currentVersion == version).isPresent()) {
+            long cachedAt = System.currentTimeMillis();
+            putNearCache(redisKey, new CachedView(value, version, cachedAt, cachedAt + nearCacheTtl.toMillis()));
+            writeRedis(key, redisKey, value, version, cachedAt);
+        }
+
+        return value;
+    }
+
+    //캐시를 끈 경우에도 대진표 버전은 올려야 ETag 가 바뀐다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchViewChanged(MatchViewChangedEvent event) {
+        if (enabled) {
+            evictNearCache(event);
+            evictRedis(event);
+        }
+
+        Long bracketVersion = bumpBracketVersion(event.channelLink());
+        if (bracketVersion != null) bracketSnapshotCache.onInvalidated(event.channelLink(), bracketVersion);
+
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_TOPIC,
+                    objectMapper.writeValueAsString(new InvalidationMessage(event, bracketVersion)));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("조회 캐시 무효화 전파 실패 channelLink = {} : {}", event.channelLink(), e.getMessage());
+        }
+    }
+
+    //다른 서버에서 보낸 무효화
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            InvalidationMessage invalidationMessage = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), InvalidationMessage.class);
+            MatchViewChangedEvent event = invalidationMessage.event();
+
+            if (enabled) evictNearCache(event);
+
+            if (invalidationMessage.bracketVersion() != null)
+                bracketSnapshotCache.onInvalidated(event.channelLink(), invalidationMessage.bracketVersion());
+        } catch (JsonProcessingException e) {
+            log.warn("조회 캐시 무효화 메시지 파싱 실패 : {}", e.getMessage());
+        }
+    }
+
+    private <T> T load(Supplier<T> loader, boolean inTransaction) {
+        return inTransaction ? loader.get() : readOnlyTransaction.execute(status -> loader.get());
+    }
+
+    private Optional<Long> findBracketVersion(String channelLink) {
+        try {
+            return Optional.of(bracketVersionStore.current(channelLink));
+        } catch (DataAccessException e) {
+            log.warn("대진표 버전 조회 실패 channelLink = {} : {}", channelLink, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Long bumpBracketVersion(String channelLink) {
+        if (channelLink == null) return null;
+
+        try {
+            return bracketVersionStore.bump(channelLink);
+        } catch (DataAccessException e) {
+            log.warn("대진표 버전 변경 실패 channelLink = {} : {}", channelLink, e.getMessage());
+            return null;
+        }
+    }
+
+    private void evictNearCache(MatchViewChangedEvent event) {
+        Counter.builder("match.view.cache.invalidation").register(meterRegistry).increment();
+
+        if (event.channelLink() != null) {
+            String roundPrefix = MatchViewKey.roundPrefix(event.channelLink());
+            synchronized (nearCache) {
+                nearCache.keySet().removeIf(redisKey -> redisKey.startsWith(roundPrefix));
+            }
+        }
+
+        matchKeys(event).forEach(nearCache::remove);
+    }
+
+    private void evictRedis(MatchViewChangedEvent event) {
+        try {
+            List<String> redisKeys = matchKeys(event);
+
+            if (event.channelLink() != null) {
+                String roundKeySetKey = MatchViewKey.roundKeySetKey(event.channelLink());
+                Set<String> roundKeys = stringRedisTemplate.opsForSet().members(roundKeySetKey);
+                if (roundKeys != null) redisKeys.addAll(roundKeys);
+                redisKeys.add(roundKeySetKey);
+            }
+
+            stringRedisTemplate.delete(redisKeys);
+        } catch (DataAccessException e) {
+            log.warn("조회 캐시 삭제 실패 channelLink = {} : {}", event.channelLink(), e.getMessage());
+        }
+    }
+
+    private List<String> matchKeys(MatchViewChangedEvent event) {
+        List<String> redisKeys = new ArrayList<>();
+
+        event.matchIds().forEach(matchId -> {
+            redisKeys.add(MatchViewKey.score(event.channelLink(), matchId).toRedisKey());
+            redisKeys.add(MatchViewKey.gameResult(event.channelLink(), matchId).toRedisKey());
+        });
+
+        return redisKeys;
+    }
+
+    private Optional<CachedView> readRedis(String redisKey, JavaType type, long now) {
+        try {
+            String payload = stringRedisTemplate.opsForValue().get(redisKey);
+            if (payload == null) return Optional.empty();
+
+            JsonNode payloadNode = objectMapper.readTree(payload);
+            Object value = objectMapper.convertValue(payloadNode.get("value"), type);
+
+            return Optional.of(new CachedView(value, payloadNode.path("bracketVersion").asLong(),
+                    payloadNode.get("cachedAt").asLong(), now + nearCacheTtl.toMillis()));
+        } catch (DataAccessException | JsonProcessingException | IllegalArgumentException e) {
+            log.warn("조회 캐시 조회 실패 key = {} : {}", redisKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(MatchViewKey key, String redisKey, Object value, long bracketVersion, long cachedAt) {
+        try {
+            ObjectNode payload = objectMapper.createObjectNode();
+            payload.put("bracketVersion", bracketVersion);
+            payload.put("cachedAt", cachedAt);
+            payload.set("value", objectMapper.valueToTree(value));
+
+            stringRedisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(payload), ttl);
+
+            //채널 단위로 지울 수 있도록 라운드 조회 키를 모아둔다.
+            if (key.region() == MatchViewRegion.ROUND) {
+                String roundKeySetKey = MatchViewKey.roundKeySetKey(key.channelLink());
+                stringRedisTemplate.opsForSet().add(roundKeySetKey, redisKey);
+                stringRedisTemplate.expire(roundKeySetKey, ttl);
+            }
+        } catch (DataAccessException | JsonProcessingException | IllegalArgumentException e) {
+            log.warn("조회 캐시 저장 실패 key = {} : {}", redisKey, e.getMessage());
+        }
+    }
+
+    private void putNearCache(String redisKey, CachedView cachedView) {
+        nearCache.put(redisKey, cachedView);
+    }
+
+    private void recordHit(MatchViewRegion region, String result, long ageMillis) {
+        counter(region, result).increment();
+        DistributionSummary.builder("match.view.cache.age")
+                .baseUnit("milliseconds")
+                .tag("region", region.name())
+                .register(meterRegistry)
+                .record(ageMillis);
+    }
+
+    private Counter counter(MatchViewRegion region, String result) {
+        return Counter.builder("match.view.cache")
+                .tag("region", region.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param event
+     * @param bracketVersion 무효화 후 채널의 대진표 버전, 올리지 못했으면 null
+     */
+    record InvalidationMessage(MatchViewChangedEvent event, Long bracketVersion) {
+    }
+
+    /**
+     * @param bracketVersion DB 에서 읽기 전에 확인한 채널의 대진표 버전
+     * @param cachedAt       DB 에서 읽은 시각, 메트릭의 나이 계산에 사용
+     * @param expiresAt      near cache 만료 시각
+     */
+    private record CachedView(Object value, long bracketVersion, long cachedAt, long expiresAt) {
+
+        private boolean isValid(long currentVersion, long now) {
+            return bracketVersion == currentVersion && now <= expiresAt;
+        }
+    }
+}
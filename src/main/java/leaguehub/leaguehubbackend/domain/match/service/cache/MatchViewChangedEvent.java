@@ -0,0 +1,30 @@
+package leaguehub.leaguehubbackend.domain.match.service.cache;
+
+import leaguehub.leaguehubbackend.domain.match.dto.BracketDelta;
+
+import java.util.List;
+
+/**
+ * 대진표, 점수판이 바뀌었음을 알리는 이벤트
+ * 커밋 후 MatchViewCache 가 채널의 라운드 조회 결과와 matchIds 의 점수판, 세트 결과를 지우고,
+ * BracketDeltaStream 이 deltas 를 채널 구독자에게 보낸다.
+ *
+ * @param channelLink 라운드 조회 결과를 지울 채널
+ * @param matchIds    점수판, 세트 결과를 지울 매치
+ * @param deltas      구독자에게 보낼 변경 내용
+ */
+public record MatchViewChangedEvent(String channelLink, List<Long> matchIds, List<BracketDelta> deltas) {
+
+    public static MatchViewChangedEvent ofMatches(String channelLink, List<Long> matchIds, List<BracketDelta> deltas) {
+        return new MatchViewChangedEvent(channelLink, List.copyOf(matchIds), List.copyOf(deltas));
+    }
+
+    //채널 설정(최대 인원 등)처럼 매치 단위 변경 없이 대진표 조회 결과가 바뀐 경우
+    public static MatchViewChangedEvent ofChannel(String channelLink) {
+        return new MatchViewChangedEvent(channelLink, List.of(), List.of());
+    }
+
+    public static MatchViewChangedEvent ofMatch(String channelLink, Long matchId, BracketDelta... deltas) {
+        return new MatchViewChangedEvent(channelLink, List.of(matchId), List.of(deltas));
+    }
+}
@@ -0,0 +1,41 @@
+package leaguehub.leaguehubbackend.domain.match.service.cache;
+
+/**
+ * 조회 결과 캐시 키
+ * 저장한 값은 채널의 대진표 버전과 함께 두므로 모든 키에 채널 링크를 포함한다.
+ *
+ * @param region
+ * @param channelLink 조회 결과가 속한 채널
+ * @param id          region 안에서 조회 결과를 구분하는 값
+ */
+public record MatchViewKey(MatchViewRegion region, String channelLink, String id) {
+
+    private static final String KEY_PREFIX = "matchView:";
+
+    public static MatchViewKey round(String channelLink, int matchRound, int page, int size) {
+        return new MatchViewKey(MatchViewRegion.ROUND, channelLink, matchRound + ":" + page + ":" + size);
+    }
+
+    public static MatchViewKey score(String channelLink, Long matchId) {
+        return new MatchViewKey(MatchViewRegion.SCORE, channelLink, String.valueOf(matchId));
+    }
+
+    public static MatchViewKey gameResult(String channelLink, Long matchId) {
+        return new MatchViewKey(MatchViewRegion.GAME_RESULT, channelLink, String.valueOf(matchId));
+    }
+
+    //matchView:ROUND:{channelLink}:{round}:{page}:{size}, matchView:SCORE:{channelLink}:{matchId}
+    public String toRedisKey() {
+        return region == MatchViewRegion.ROUND
+                ? roundPrefix(channelLink) + id
+                : KEY_PREFIX + region + ":" + channelLink + ":" + id;
+    }
+
+    public static String roundPrefix(String channelLink) {
+        return KEY_PREFIX + MatchViewRegion.ROUND + ":" + channelLink + ":";
+    }
+
+    public static String roundKeySetKey(String channelLink) {
+        return KEY_PREFIX + "roundKeys:" + channelLink;
+    }
+}
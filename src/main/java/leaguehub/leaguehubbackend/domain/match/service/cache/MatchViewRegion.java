@@ -0,0 +1,14 @@
+package leaguehub.leaguehubbackend.domain.match.service.cache;
+
+/**
+ * 캐시하는 조회 결과 종류
+ */
+public enum MatchViewRegion {
+
+    //채널 라운드의 그룹 페이지
+    ROUND,
+    //매치 점수판
+    SCORE,
+    //매치 세트별 결과
+    GAME_RESULT
+}
@@ -10,25 +10,28 @@ import leaguehub.leaguehubbackend.domain.match.exception.chat.exception.MatchCha
 import leaguehub.leaguehubbackend.domain.member.entity.Member;
 import leaguehub.leaguehubbackend.domain.member.repository.MemberRepository;
 import leaguehub.leaguehubbackend.domain.member.service.JwtService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class MatchChatService {
 
     private static final String REDIS_KEY_FORMAT = "channelLink:%s:matchId:%d:messages";
     private static final String PUBLISH_KEY_FORMAT = "matchId:%d:messages";
     private static final String DELETE_CHANNEL_CHAT_FORMAT = "channelLink:%s:matchId:*:messages";
+    private static final String NO_CHAT_TAG = "none";
 
     private final StringRedisTemplate stringRedisTemplate;
 
@@ -38,6 +41,24 @@ public class MatchChatService {
 
     private final ObjectMapper objectMapper;
 
+    //매치별 마지막 채팅의 시각, 모든 서버가 같은 채팅을 구독하므로 서버마다 같은 값이 된다.
+    private final Map<Long, String> lastChatTagByMatchId;
+
+    public MatchChatService(StringRedisTemplate stringRedisTemplate, JwtService jwtService,
+                            MemberRepository memberRepository, ObjectMapper objectMapper,
+                            @Value("${match.chat.tag-max-entries:10000}") int maxEntries) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.jwtService = jwtService;
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.lastChatTagByMatchId = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
     public void processMessage(MatchMessage message) {
         Long matchId = message.getMatchId();
         String channelLink = message.getChannelLink();
@@ -97,6 +118,37 @@ public class MatchChatService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 점수판 응답의 ETag 에 붙일 매치의 마지막 채팅 표시
+     * 구독으로 받은 채팅으로 갱신하므로, 이 서버가 처음 조회하는 매치일 때만 Redis 에서 마지막 채팅을 읽는다.
+     *
+     * @param channelLink
+     * @param matchId
+     * @return 마지막 채팅 시각, 채팅이 없으면 none
+     */
+    public String findLastChatTag(String channelLink, Long matchId) {
+        String chatTag = lastChatTagByMatchId.get(matchId);
+        if (chatTag != null) return chatTag;
+
+        String lastMessage = stringRedisTemplate.opsForList().index(String.format(REDIS_KEY_FORMAT, channelLink, matchId), 0);
+        chatTag = lastMessage == null ? NO_CHAT_TAG : toChatTag(convertJsonToMatchMessage(lastMessage));
+
+        //읽는 사이에 구독으로 받은 채팅이 있으면 그 값을 쓴다.
+        String current = lastChatTagByMatchId.putIfAbsent(matchId, chatTag);
+        return current == null ? chatTag : current;
+    }
+
+    //구독으로 받은 채팅, Redis 목록에 저장한 뒤 발행하므로 이 값으로 읽는 채팅 기록에는 이 채팅이 들어 있다.
+    public void updateLastChatTag(MatchMessage message) {
+        if (message.getMatchId() == null) return;
+
+        lastChatTagByMatchId.put(message.getMatchId(), toChatTag(message));
+    }
+
+    private String toChatTag(MatchMessage message) {
+        return String.valueOf(message.getTimestamp());
+    }
+
     private MatchMessage convertJsonToMatchMessage(String json) {
         try {
             return objectMapper.readValue(json, MatchMessage.class);
@@ -21,12 +21,15 @@ public class MatchChatSubscriber implements MessageListener {
 
     private final SimpMessagingTemplate messagingTemplate;
 
+    private final MatchChatService matchChatService;
+
     private static final String MATCH_CHAT_DESTINATION_FORMAT = "/match/%d/chat";
 
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         MatchMessage receivedMessageObj = convertToMatchMessage(message);
+        matchChatService.updateLastChatTag(receivedMessageObj);
         broadcastMessage(receivedMessageObj);
     }
 
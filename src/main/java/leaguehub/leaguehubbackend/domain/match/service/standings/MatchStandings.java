@@ -0,0 +1,210 @@
+package leaguehub.leaguehubbackend.domain.match.service.standings;
+
+import leaguehub.leaguehubbackend.domain.match.dto.GameResultDto;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchRankResultDto;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchStanding;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchTieBreaker;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus.ADVANCE;
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus.DROPOUT;
+
+/**
+ * 매치 한 개의 순위표
+ * 실격을 제외한 플레이어의 점수, 1등 횟수, 마지막 세트 등수를 참가자 Id 기준으로 한 번에 모아두고
+ * 추가 조회 없이 진출 / 탈락을 결정한다.
+ */
+public class MatchStandings {
+
+    private final List<Standing> standings;
+    private final Map<String, Standing> standingByGameId = new HashMap<>();
+    //실격자를 포함한 매치 전체에서 가장 많은 1등 횟수
+    private int maxFirstPlaceCount;
+
+    private MatchStandings(List<StandingPlayer> players) {
+        this.standings = players.stream()
+                .map(Standing::new)
+                .sorted(Comparator.comparingInt((Standing standing) -> standing.score).reversed()
+                        .thenComparing(standing -> standing.gameId))
+                .collect(Collectors.toList());
+        this.standings.forEach(standing -> standingByGameId.put(standing.gameId, standing));
+    }
+
+    /**
+     * @param players     실격을 제외한 매치 플레이어
+     * @param gameResults 점수가 반영된 세트별 등수
+     * @return 순위표
+     */
+    public static MatchStandings of(List<StandingPlayer> players, List<GameResultDto> gameResults) {
+        MatchStandings matchStandings = new MatchStandings(players);
+        Map<String, Integer> firstPlaceCountByGameId = new HashMap<>();
+        int lastSetCount = 0;
+
+        for (GameResultDto gameResult : gameResults) {
+            lastSetCount = Math.max(lastSetCount, gameResult.getMatchSetCount());
+
+            for (MatchRankResultDto matchRank : gameResult.getMatchRankResultDtos()) {
+                if (matchRank.getPlacement() == 1) {
+                    int firstPlaceCount = firstPlaceCountByGameId.merge(matchRank.getGameId(), 1, Integer::sum);
+                    matchStandings.maxFirstPlaceCount = Math.max(matchStandings.maxFirstPlaceCount, firstPlaceCount);
+                }
+            }
+        }
+
+        firstPlaceCountByGameId.forEach((gameId, firstPlaceCount) -> {
+            Standing standing = matchStandings.standingByGameId.get(gameId);
+            if (standing != null) standing.firstPlaceCount = firstPlaceCount;
+        });
+
+        for (GameResultDto gameResult : gameResults) {
+            if (gameResult.getMatchSetCount() != lastSetCount) continue;
+
+            gameResult.getMatchRankResultDtos().forEach(matchRank -> {
+                Standing standing = matchStandings.standingByGameId.get(matchRank.getGameId());
+                if (standing != null) standing.lastPlacement = matchRank.getPlacement();
+            });
+        }
+
+        return matchStandings;
+    }
+
+    /**
+     * 누적 순위표로 만든다. 세트별 등수를 다시 읽지 않으므로 플레이어 수에 비례한 작업만 한다.
+     *
+     * @param matchStanding 매치의 누적 순위표
+     * @return 실격을 제외한 순위표
+     */
+    public static MatchStandings of(MatchStanding matchStanding) {
+        List<StandingPlayer> players = matchStanding.getEntries().stream()
+                .filter(entry -> !entry.isDisqualified())
+                .map(entry -> new StandingPlayer(entry.getParticipantId(), entry.getGameId(), entry.getScore()))
+                .collect(Collectors.toList());
+
+        MatchStandings matchStandings = new MatchStandings(players);
+        matchStandings.maxFirstPlaceCount = matchStanding.getMaxFirstPlaceCount();
+
+        matchStanding.getEntries().forEach(entry -> {
+            Standing standing = matchStandings.standingByGameId.get(entry.getGameId());
+            if (standing == null) return;
+
+            standing.firstPlaceCount = entry.getFirstPlaceCount();
+            standing.lastPlacement = entry.getLastPlacement();
+        });
+
+        return matchStandings;
+    }
+
+    /**
+     * 진출 / 탈락 결정
+     * 진출 경계(advanceCount 번째) 점수보다 높으면 진출, 낮으면 탈락,
+     * 같은 점수의 동점자가 남은 자리보다 많으면 tieBreakers 를 순서대로 적용한다.
+     *
+     * @param advanceCount 진출 인원
+     * @param tieBreakers  동점자 처리 기준
+     * @return 참가자 Id -> ADVANCE | DROPOUT
+     */
+    public Map<Long, MatchPlayerResultStatus> decide(int advanceCount, List<MatchTieBreaker> tieBreakers) {
+        Map<Long, MatchPlayerResultStatus> resultByParticipantId = new LinkedHashMap<>();
+
+        if (standings.size() <= advanceCount) {
+            standings.forEach(standing -> resultByParticipantId.put(standing.participantId, ADVANCE));
+            return resultByParticipantId;
+        }
+
+        int advanceScore = standings.get(advanceCount - 1).score;
+        List<Standing> tieStandings = new ArrayList<>();
+        int remainCount = advanceCount;
+
+        for (Standing standing : standings) {
+            if (standing.score > advanceScore) {
+                resultByParticipantId.put(standing.participantId, ADVANCE);
+                remainCount--;
+            } else if (standing.score < advanceScore) {
+                resultByParticipantId.put(standing.participantId, DROPOUT);
+            } else {
+                tieStandings.add(standing);
+            }
+        }
+
+        for (MatchTieBreaker tieBreaker : tieBreakers) {
+            if (tieStandings.size() <= remainCount) break;
+
+            List<Standing> winners = switch (tieBreaker) {
+                case MOST_FIRST_PLACES -> mostFirstPlaces(tieStandings);
+                case LAST_SET_PLACEMENT -> lastSetPlacement(tieStandings, remainCount);
+            };
+
+            if (winners.isEmpty()) continue;
+
+            if (winners.size() <= remainCount) {
+                winners.forEach(standing -> resultByParticipantId.put(standing.participantId, ADVANCE));
+                tieStandings.removeAll(winners);
+                remainCount -= winners.size();
+            } else {
+                //진출 자리보다 기준을 통과한 플레이어가 많으면 그 플레이어들로만 다음 기준을 적용
+                tieStandings.removeAll(winners);
+                tieStandings.forEach(standing -> resultByParticipantId.put(standing.participantId, DROPOUT));
+                tieStandings = new ArrayList<>(winners);
+            }
+        }
+
+        //기준을 모두 적용해도 남으면 점수, 게임 Id 순서로 자른다.
+        for (int i = 0; i < tieStandings.size(); i++) {
+            resultByParticipantId.put(tieStandings.get(i).participantId, i < remainCount ? ADVANCE : DROPOUT);
+        }
+
+        return resultByParticipantId;
+    }
+
+    /**
+     * 동점자 중 1등 횟수가 매치 전체 최다 1등 횟수와 같은 플레이어
+     */
+    private List<Standing> mostFirstPlaces(List<Standing> tieStandings) {
+        if (maxFirstPlaceCount == 0) return List.of();
+
+        return tieStandings.stream()
+                .filter(standing -> standing.firstPlaceCount == maxFirstPlaceCount)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 가장 최근 세트의 등수가 높은 순서로 남은 자리만큼
+     */
+    private List<Standing> lastSetPlacement(List<Standing> tieStandings, int remainCount) {
+        return tieStandings.stream()
+                .filter(standing -> standing.lastPlacement != null)
+                .sorted(Comparator.comparingInt(standing -> standing.lastPlacement))
+                .limit(remainCount)
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * 순위표에 넣을 플레이어
+     *
+     * @param participantId
+     * @param gameId        세트별 등수(MatchRank)와 연결하는 게임 Id
+     * @param score
+     */
+    public record StandingPlayer(Long participantId, String gameId, int score) {
+    }
+
+    private static class Standing {
+
+        private final Long participantId;
+        private final String gameId;
+        private final int score;
+        private int firstPlaceCount;
+        //가장 최근 세트의 등수, 그 세트에 없었다면 null
+        private Integer lastPlacement;
+
+        private Standing(StandingPlayer player) {
+            this.participantId = player.participantId();
+            this.gameId = player.gameId();
+            this.score = player.score();
+        }
+    }
+}
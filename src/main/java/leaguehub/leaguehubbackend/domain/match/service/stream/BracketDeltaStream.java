@@ -0,0 +1,153 @@
+package leaguehub.leaguehubbackend.domain.match.service.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import leaguehub.leaguehubbackend.domain.match.dto.BracketDeltaMessage;
+import leaguehub.leaguehubbackend.domain.match.dto.BracketDeltaSyncDto;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 채널 대진표 변경 스트림
+ * 커밋된 MatchViewChangedEvent 의 deltas 에 채널별 sequence 를 붙여 /match/{channelLink}/bracket 으로 보낸다.
+ * 서버마다 STOMP 구독자가 다르므로 Redis 채널로 모든 서버에 전달하고, 각 서버가 자기 구독자에게 보낸다.
+ * 최근 메시지는 Redis 에 보관해 sequence 를 건너뛴 클라이언트가 다시 받을 수 있게 한다.
+ * sequence 는 BracketVersionStore 처럼 현재 시각(ms)에서 시작하므로 키가 없어져도 이전 값보다 작아지지 않는다.
+ */
+@Slf4j
+@Component
+public class BracketDeltaStream implements MessageListener {
+
+    private static final String DELTA_TOPIC = "matchBracket:delta";
+    private static final String SEQUENCE_KEY_PREFIX = "matchBracket:sequence:";
+    private static final String HISTORY_KEY_PREFIX = "matchBracket:deltas:";
+    private static final String DESTINATION_FORMAT = "/match/%s/bracket";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int historySize;
+    private final Duration historyTtl;
+
+    public BracketDeltaStream(StringRedisTemplate stringRedisTemplate, RedisMessageListenerContainer redisMessageListenerContainer,
+                              SimpMessagingTemplate simpMessagingTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                              @Value("${match.bracket-stream.history-size:200}") int historySize,
+                              @Value("${match.bracket-stream.history-ttl-hours:24}") long historyTtlHours) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.simpMessagingTemplate = simpMessagingTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.historySize = historySize;
+        this.historyTtl = Duration.ofHours(historyTtlHours);
+    }
+
+    @PostConstruct
+    void subscribeDelta() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(DELTA_TOPIC));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchViewChanged(MatchViewChangedEvent event) {
+        if (event.channelLink() == null || event.deltas().isEmpty()) return;
+
+        try {
+            //키가 없어졌다면 현재 시각(ms)에서 다시 시작해 클라이언트가 이전 sequence 에 이어 붙이지 않게 한다.
+            String sequenceKey = SEQUENCE_KEY_PREFIX + event.channelLink();
+            stringRedisTemplate.opsForValue().setIfAbsent(sequenceKey, String.valueOf(System.currentTimeMillis()));
+            long sequence = stringRedisTemplate.opsForValue().increment(sequenceKey);
+            String messageJson = objectMapper.writeValueAsString(
+                    new BracketDeltaMessage(event.channelLink(), sequence, event.deltas()));
+
+            //구독자가 메시지를 받고 바로 다시 받기를 요청해도 보이도록 보관 먼저
+            String historyKey = HISTORY_KEY_PREFIX + event.channelLink();
+            stringRedisTemplate.opsForList().leftPush(historyKey, messageJson);
+            stringRedisTemplate.opsForList().trim(historyKey, 0, historySize - 1);
+            stringRedisTemplate.expire(historyKey, historyTtl);
+
+            stringRedisTemplate.convertAndSend(DELTA_TOPIC, messageJson);
+            counter("published").increment();
+        } catch (JsonProcessingException | DataAccessException e) {
+            //보내지 못한 변경은 다음 sequence 에서 건너뛴 것으로 보이므로 클라이언트가 다시 조회한다.
+            log.warn("대진표 변경 전송 실패 channelLink = {} : {}", event.channelLink(), e.getMessage());
+            counter("failed").increment();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        BracketDeltaMessage deltaMessage = convertToDeltaMessage(message.getBody());
+        if (deltaMessage == null) return;
+
+        simpMessagingTemplate.convertAndSend(String.format(DESTINATION_FORMAT, deltaMessage.channelLink()), deltaMessage);
+    }
+
+    /**
+     * after 다음 sequence 부터의 메시지
+     * 보관 기간이 지나 중간 메시지가 없거나 sequence 가 처음부터 다시 시작됐다면 resyncRequired 로 답한다.
+     *
+     * @param channelLink
+     * @param afterSequence 클라이언트가 마지막으로 받은 sequence
+     * @return
+     */
+    public BracketDeltaSyncDto findDeltas(String channelLink, long afterSequence) {
+        String sequence = stringRedisTemplate.opsForValue().get(SEQUENCE_KEY_PREFIX + channelLink);
+        long currentSequence = sequence == null ? 0 : Long.parseLong(sequence);
+
+        if (afterSequence >= currentSequence) {
+            return new BracketDeltaSyncDto(currentSequence, afterSequence > currentSequence, List.of());
+        }
+
+        List<String> history = stringRedisTemplate.opsForList().range(HISTORY_KEY_PREFIX + channelLink, 0, -1);
+        List<BracketDeltaMessage> messages = (history == null ? List.<String>of() : history).stream()
+                .map(messageJson -> convertToDeltaMessage(messageJson.getBytes(StandardCharsets.UTF_8)))
+                .filter(Objects::nonNull)
+                .filter(deltaMessage -> deltaMessage.sequence() > afterSequence)
+                .sorted(Comparator.comparingLong(BracketDeltaMessage::sequence))
+                .collect(Collectors.toList());
+
+        boolean complete = messages.size() == currentSequence - afterSequence
+                && messages.get(0).sequence() == afterSequence + 1;
+        if (!complete) counter("resync").increment();
+
+        return new BracketDeltaSyncDto(currentSequence, !complete, complete ? messages : List.of());
+    }
+
+    private BracketDeltaMessage convertToDeltaMessage(byte[] body) {
+        try {
+            return objectMapper.readValue(body, BracketDeltaMessage.class);
+        } catch (IOException e) {
+            log.warn("대진표 변경 메시지 파싱 실패 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Counter counter(String result) {
+        return Counter.builder("match.bracket.delta")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
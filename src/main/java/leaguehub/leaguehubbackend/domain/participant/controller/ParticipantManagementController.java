@@ -14,6 +14,7 @@ import leaguehub.leaguehubbackend.domain.participant.dto.ParticipantIdDto;
 import leaguehub.leaguehubbackend.domain.participant.dto.ParticipantIdResponseDto;
 import leaguehub.leaguehubbackend.domain.participant.service.ParticipantManagementService;
 import leaguehub.leaguehubbackend.global.exception.global.ExceptionResponse;
+import leaguehub.leaguehubbackend.global.retry.OptimisticRetryExecutor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
@@ -35,6 +36,7 @@ public class ParticipantManagementController {
 
     private final SimpMessagingTemplate simpMessagingTemplate;
     private final ParticipantManagementService participantManagementService;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
 
 
     @Operation(summary = "경기에 참가요청(TFT 만)", description = "관전자가 게임에 참가 요청")
@@ -97,7 +99,8 @@ public class ParticipantManagementController {
     public void disqualifiedParticipant(@DestinationVariable("channelLink") String channelLink,
                                         @DestinationVariable("matchIdStr") String matchIdStr,
                                         @Payload ParticipantIdDto message) {
-        ParticipantIdResponseDto participantIdResponseDto = participantManagementService.disqualifiedParticipant(channelLink, message);
+        ParticipantIdResponseDto participantIdResponseDto = optimisticRetryExecutor.execute("participant.disqualification",
+                () -> participantManagementService.disqualifiedParticipant(channelLink, message));
 
         simpMessagingTemplate.convertAndSend("/match/" + matchIdStr, participantIdResponseDto);
     }
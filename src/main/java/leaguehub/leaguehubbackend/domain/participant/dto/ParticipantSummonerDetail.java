@@ -1,5 +1,7 @@
 package leaguehub.leaguehubbackend.domain.participant.dto;
 
+import leaguehub.leaguehubbackend.domain.participant.entity.GameTier;
+import leaguehub.leaguehubbackend.global.riot.dto.RiotLeagueEntryDto;
 import lombok.Data;
 
 @Data
@@ -7,5 +9,9 @@ public class ParticipantSummonerDetail {
 
     String puuid;
 
-    String userGameInfo;
+    RiotLeagueEntryDto leagueEntry;
+
+    GameTier gameTier;
+
+    Integer playCount;
 }
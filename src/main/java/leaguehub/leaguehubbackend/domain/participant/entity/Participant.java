@@ -121,6 +121,12 @@ public class Participant extends BaseTimeEntity {
         return this;
     }
 
+    public Participant updatePuuid(String puuid) {
+        this.puuid = puuid;
+
+        return this;
+    }
+
     public Participant updateHostRole() {
         this.requestStatus = RequestStatus.NO_REQUEST;
         this.role = Role.HOST;
@@ -5,6 +5,7 @@ import leaguehub.leaguehubbackend.domain.participant.entity.ParticipantStatus;
 import leaguehub.leaguehubbackend.domain.participant.entity.RequestStatus;
 import leaguehub.leaguehubbackend.domain.participant.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -38,4 +39,9 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
 
     List<Participant> findAllByChannel_ChannelLinkAndRoleAndParticipantStatus(String channelLink, Role role,ParticipantStatus participantStatus);
 
+    @Modifying(flushAutomatically = true)
+    @Query("update Participant p set p.participantStatus = :participantStatus where p.id in :participantIds")
+    int updateParticipantStatusByIds(@Param("participantIds") List<Long> participantIds,
+                                     @Param("participantStatus") ParticipantStatus participantStatus);
+
 }
\ No newline at end of file
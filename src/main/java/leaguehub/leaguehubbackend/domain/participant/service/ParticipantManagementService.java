@@ -5,9 +5,14 @@ import leaguehub.leaguehubbackend.domain.channel.entity.Channel;
 import leaguehub.leaguehubbackend.domain.channel.entity.ChannelRule;
 import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRuleRepository;
 import leaguehub.leaguehubbackend.domain.channel.service.ChannelService;
+import leaguehub.leaguehubbackend.domain.match.dto.BracketDelta;
+import leaguehub.leaguehubbackend.domain.match.dto.BracketPlayerDelta;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayer;
 import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus;
 import leaguehub.leaguehubbackend.domain.match.entity.PlayerStatus;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository;
+import leaguehub.leaguehubbackend.domain.match.service.MatchStandingService;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewChangedEvent;
 import leaguehub.leaguehubbackend.domain.member.entity.Member;
 import leaguehub.leaguehubbackend.domain.member.exception.auth.exception.AuthInvalidTokenException;
 import leaguehub.leaguehubbackend.domain.member.repository.MemberRepository;
@@ -21,16 +26,23 @@ import leaguehub.leaguehubbackend.domain.participant.entity.GameTier;
 import leaguehub.leaguehubbackend.domain.participant.entity.Participant;
 import leaguehub.leaguehubbackend.domain.participant.exception.exception.*;
 import leaguehub.leaguehubbackend.domain.participant.repository.ParticipantRepository;
+import leaguehub.leaguehubbackend.global.riot.RiotPuuidCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static leaguehub.leaguehubbackend.domain.match.entity.PlayerStatus.DISQUALIFICATION;
 import static leaguehub.leaguehubbackend.domain.participant.entity.RequestStatus.*;
 import static leaguehub.leaguehubbackend.domain.participant.entity.Role.*;
+import static leaguehub.leaguehubbackend.global.audit.GlobalConstant.NO_DATA;
 
 @Service
 @Transactional
@@ -42,10 +54,14 @@ public class ParticipantManagementService {
     private final ParticipantRepository participantRepository;
     private final MemberRepository memberRepository;
     private final MatchPlayerRepository matchPlayerRepository;
+    private final MatchStandingService matchStandingService;
     private final ChannelRuleRepository channelRuleRepository;
     private final ParticipantService participantService;
     private final JwtService jwtService;
     private final ParticipantWebClientService participantWebClientService;
+    private final RiotPuuidCache riotPuuidCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 사용자가 지정한 Channel을 참가
@@ -118,28 +134,39 @@ public class ParticipantManagementService {
 
     /**
      * 관전자인 사용자가 해당 채널의 경기에 참가
+     * DB 검사를 먼저 끝내고, 라이엇 조회는 트랜잭션 밖에서 기다린 뒤 짧은 트랜잭션으로 저장한다.
      *
      * @param responseDto
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void participateMatch(ParticipantDto responseDto, String channelLink) {
-        Participant participant = participantService.getParticipant(channelLink);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
-        checkParticipateMatch(participant);
+        ChannelRule channelRule = transactionTemplate.execute(status -> {
+            checkParticipateMatch(participantService.getParticipant(channelLink));
+            checkDuplicateNickname(responseDto.getGameId(), channelLink);
 
-        ChannelRule channelRule = channelRuleRepository
-                .findChannelRuleByChannel_ChannelLink(channelLink);
+            return channelRuleRepository.findChannelRuleByChannel_ChannelLink(channelLink);
+        });
 
-        checkDuplicateNickname(responseDto.getGameId(), channelLink);
+        ParticipantSummonerDetail participantSummonerDetail = participantWebClientService
+                .requestUserGameInfo(responseDto.getGameId())
+                .blockOptional()
+                .orElseThrow(ParticipantGameIdNotFoundException::new);
+        GameTier tier = participantSummonerDetail.getGameTier();
 
-        ParticipantSummonerDetail participantSummonerDetail = participantWebClientService.requestUserGameInfo(responseDto.getGameId());
-        String userGameInfo = participantSummonerDetail.getUserGameInfo();
-        String puuid = participantSummonerDetail.getPuuid();
+        checkRule(channelRule, participantSummonerDetail);
 
-        GameTier tier = participantWebClientService.searchTier(userGameInfo);
+        transactionTemplate.executeWithoutResult(status -> {
+            //라이엇 조회 동안 바뀌었을 수 있으니 저장 전에 다시 확인
+            Participant participant = participantService.getParticipant(channelLink);
+            checkParticipateMatch(participant);
+            checkDuplicateNickname(responseDto.getGameId(), channelLink);
 
-        checkRule(channelRule, userGameInfo, tier);
+            evictChangedGameId(participant, responseDto.getGameId());
 
-        participant.updateParticipantStatus(responseDto.getGameId(), tier.toString(), responseDto.getNickname(), puuid);
+            participant.updateParticipantStatus(responseDto.getGameId(), tier.toString(), responseDto.getNickname(), participantSummonerDetail.getPuuid());
+        });
     }
 
     /**
@@ -220,13 +247,22 @@ public class ParticipantManagementService {
      */
     private void disqualificationParticipant(Participant findParticipant) {
         findParticipant.disqualificationParticipant();
-        matchPlayerRepository.findMatchPlayersByParticipantId(findParticipant.getId())
-                .forEach(matchPlayer -> {
-                            matchPlayer.updatePlayerCheckInStatus(PlayerStatus.DISQUALIFICATION);
-                            matchPlayer.updateMatchPlayerResultStatus(MatchPlayerResultStatus.DISQUALIFICATION);
-                            matchPlayer.updateMatchPlayerScoreDisqualified();
-                        }
-                );
+        List<MatchPlayer> matchPlayers = matchPlayerRepository.findMatchPlayersByParticipantId(findParticipant.getId());
+        matchPlayers.forEach(matchPlayer -> {
+                    matchPlayer.updatePlayerCheckInStatus(PlayerStatus.DISQUALIFICATION);
+                    matchPlayer.updateMatchPlayerResultStatus(MatchPlayerResultStatus.DISQUALIFICATION);
+                    matchPlayer.updateMatchPlayerScoreDisqualified();
+                    matchStandingService.disqualify(matchPlayer);
+                }
+        );
+
+        eventPublisher.publishEvent(MatchViewChangedEvent.ofMatches(findParticipant.getChannel().getChannelLink(),
+                matchPlayers.stream().map(matchPlayer -> matchPlayer.getMatch().getId()).collect(Collectors.toList()),
+                matchPlayers.stream()
+                        .map(matchPlayer -> BracketDelta.playerStatus(matchPlayer.getMatch().getId(),
+                                BracketPlayerDelta.status(matchPlayer.getId(), findParticipant.getId(),
+                                        PlayerStatus.DISQUALIFICATION, MatchPlayerResultStatus.DISQUALIFICATION)))
+                        .collect(Collectors.toList())));
     }
 
     /**
@@ -260,6 +296,19 @@ public class ParticipantManagementService {
 
     }
 
+    /**
+     * 게임 Id가 바뀌면 이전 게임 Id의 puuid 캐시를 지운다.
+     *
+     * @param participant
+     * @param gameId
+     */
+    private void evictChangedGameId(Participant participant, String gameId) {
+        String previousGameId = participant.getGameId();
+
+        if (previousGameId != null && !previousGameId.equals(NO_DATA.getData()) && !previousGameId.equalsIgnoreCase(gameId))
+            riotPuuidCache.evict(previousGameId);
+    }
+
     private void checkDuplicateNickname(String gameId, String channelLink) {
         List<Participant> participantList = participantRepository.findAllByChannel_ChannelLink(channelLink);
 
@@ -275,13 +324,12 @@ public class ParticipantManagementService {
      * 해당 채널의 룰을 확인
      *
      * @param channelRule
-     * @param userGameInfo
-     * @param tier
+     * @param participantSummonerDetail
      */
-    private void checkRule(ChannelRule channelRule, String userGameInfo, GameTier tier) {
+    private void checkRule(ChannelRule channelRule, ParticipantSummonerDetail participantSummonerDetail) {
 
-        rankRuleCheck(channelRule, tier);
-        playCountRuleCheck(channelRule, userGameInfo);
+        rankRuleCheck(channelRule, participantSummonerDetail.getGameTier());
+        playCountRuleCheck(channelRule, participantSummonerDetail.getPlayCount());
     }
 
     private static void rankRuleCheck(ChannelRule channelRule, GameTier tier) {
@@ -295,11 +343,10 @@ public class ParticipantManagementService {
         }
     }
 
-    private void playCountRuleCheck(ChannelRule channelRule, String userGameInfo) {
+    private static void playCountRuleCheck(ChannelRule channelRule, int userPlayCount) {
 
         if (channelRule.getPlayCount()) {
             int limitedPlayCount = channelRule.getLimitedPlayCount();
-            int userPlayCount = participantWebClientService.getPlayCount(userGameInfo);
             if (userPlayCount < limitedPlayCount)
                 throw new ParticipantInvalidPlayCountException();
         }
@@ -4,158 +4,135 @@ import leaguehub.leaguehubbackend.domain.participant.dto.ParticipantSummonerDeta
 import leaguehub.leaguehubbackend.domain.participant.dto.ResponseUserGameInfoDto;
 import leaguehub.leaguehubbackend.domain.participant.entity.GameTier;
 import leaguehub.leaguehubbackend.domain.participant.exception.exception.ParticipantGameIdNotFoundException;
-import leaguehub.leaguehubbackend.global.exception.global.exception.GlobalServerErrorException;
+import leaguehub.leaguehubbackend.global.riot.RiotAccountClient;
+import leaguehub.leaguehubbackend.global.riot.RiotApiGateway;
+import leaguehub.leaguehubbackend.global.riot.RiotJsonDecoders;
+import leaguehub.leaguehubbackend.global.riot.RiotSummonerCache;
+import leaguehub.leaguehubbackend.global.riot.dto.RiotLeagueEntryDto;
+import leaguehub.leaguehubbackend.global.riot.dto.RiotSummonerDto;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
-import org.json.simple.JSONArray;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static leaguehub.leaguehubbackend.global.riot.RiotApiPriority.PARTICIPANT_LOOKUP;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class ParticipantWebClientService {
 
+    private static final String RANKED_TFT = "RANKED_TFT";
 
-    private final WebClient webClient;
-    private final JSONParser jsonParser;
-
-    @Value("${riot-api-key-1}")
-    private String riot_api_key;
+    private final RiotApiGateway riotApiGateway;
+    private final RiotAccountClient riotAccountClient;
+    private final RiotSummonerCache riotSummonerCache;
 
 
     /**
      * 닉네임 + 태크로 고유 puuid 추출
-     * 받은 nickname으로 split 나누기
+     * 캐시에 없을 때만 라이엇 API를 호출한다.
      */
-    public String getSummonerPUuid(String nickname) {
-        String pUuidURL = "https://asia.api.riotgames.com/riot/account/v1/accounts/by-riot-id/";
-
-        String gameId = nickname.split("#")[0];
-        String gameTag = nickname.split("#")[1];
-
-
-        JSONObject userAccount = webClient.get()
-                .uri(pUuidURL + gameId + "/" + gameTag + riot_api_key)
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, response -> Mono.error(new ParticipantGameIdNotFoundException()))
-                .onStatus(HttpStatusCode::is5xxServerError, response -> Mono.error(new GlobalServerErrorException()))
-                .bodyToMono(JSONObject.class)
-                .block();
-
-        return userAccount.get("puuid").toString();
+    public Mono<String> requestSummonerPuuid(String nickname) {
+        return riotAccountClient.requestPuuid(nickname, PARTICIPANT_LOOKUP);
     }
 
     /**
      * 고유 puuid로 유저의 정보 추출
+     * 소환사 Id는 바뀌지 않으므로 캐시에 없을 때만 라이엇 API를 호출한다.
      *
-     * @param nickname
+     * @param puuid
      * @return id
      */
-    public JSONObject getSummonerId(String nickname) {
-        String puuid = getSummonerPUuid(nickname);
-
+    public Mono<RiotSummonerDto> requestSummoner(String puuid) {
         String summonerUrl = "https://kr.api.riotgames.com/tft/summoner/v1/summoners/by-puuid/";
 
-        return webClient.get()
-                .uri(summonerUrl + puuid + riot_api_key)
-                .retrieve()
-                .onStatus(HttpStatusCode::is4xxClientError, response -> Mono.error(new ParticipantGameIdNotFoundException()))
-                .onStatus(HttpStatusCode::is5xxServerError, response -> Mono.error(new GlobalServerErrorException()))
-                .bodyToMono(JSONObject.class)
-                .block();
+        Mono<RiotSummonerDto> requestSummoner = riotApiGateway.get(PARTICIPANT_LOOKUP, "tft-summoner-by-puuid", summonerUrl + puuid,
+                        RiotJsonDecoders::decodeSummoner, ParticipantGameIdNotFoundException::new)
+                .switchIfEmpty(Mono.error(ParticipantGameIdNotFoundException::new))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(riotSummonerCache::put);
+
+        return Mono.fromCallable(() -> riotSummonerCache.get(puuid))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(requestSummoner);
     }
 
     /**
      * 외부 api호출로 유저 상세정보 출력
+     * puuid -> 소환사 Id -> 리그 정보 순서로 이어서 호출하고, 티어와 플레이 횟수를 함께 반환한다.
+     * puuid 와 소환사 정보는 캐시를 쓰므로 같은 닉네임을 다시 조회하면(티어 조회 후 참가 등) 리그 정보만 호출한다.
+     * 반환하는 상세 정보는 호출마다 새로 만든다.
      *
      * @param nickname
      * @return
      */
-    public ParticipantSummonerDetail requestUserGameInfo(String nickname) {
-
-        JSONObject summonerDetail = getSummonerId(nickname);
-
-        String gameId = summonerDetail.get("id").toString();
-        String puuid = summonerDetail.get("puuid").toString();
-
+    public Mono<ParticipantSummonerDetail> requestUserGameInfo(String nickname) {
         String tierUrl = "https://kr.api.riotgames.com/tft/league/v1/entries/by-summoner/";
 
+        return requestSummonerPuuid(nickname)
+                .flatMap(this::requestSummoner)
+                .flatMap(summoner -> riotApiGateway.get(PARTICIPANT_LOOKUP, "tft-league-by-summoner", tierUrl + summoner.id(),
+                                RiotJsonDecoders::decodeLeagueEntries, ParticipantGameIdNotFoundException::new)
+                        .defaultIfEmpty(List.of())
+                        .map(leagueEntries -> toSummonerDetail(summoner.puuid(), selectLeagueEntry(leagueEntries))));
+    }
 
-        JSONArray summonerDetails = webClient.get()
-                .uri(tierUrl + gameId + riot_api_key)
-                .retrieve()
-                .bodyToMono(JSONArray.class)
-                .block();
-
-        String arraytoString = summonerDetails.toJSONString();
-
+    private ParticipantSummonerDetail toSummonerDetail(String puuid, RiotLeagueEntryDto leagueEntry) {
         ParticipantSummonerDetail participantSummonerDetail = new ParticipantSummonerDetail();
         participantSummonerDetail.setPuuid(puuid);
-        participantSummonerDetail.setUserGameInfo(arraytoString);
+        participantSummonerDetail.setLeagueEntry(leagueEntry);
+        participantSummonerDetail.setGameTier(searchTier(leagueEntry));
+        participantSummonerDetail.setPlayCount(getPlayCount(leagueEntry));
 
         return participantSummonerDetail;
+    }
 
+    /**
+     * 티어가 있는 리그 정보 중 랭크 게임 정보를 우선으로 선택
+     *
+     * @param leagueEntries
+     * @return 랭크 정보가 없으면 null
+     */
+    private RiotLeagueEntryDto selectLeagueEntry(List<RiotLeagueEntryDto> leagueEntries) {
+        return leagueEntries.stream()
+                .filter(leagueEntry -> leagueEntry.tier() != null)
+                .min(Comparator.comparing(leagueEntry -> !RANKED_TFT.equals(leagueEntry.queueType())))
+                .orElse(null);
     }
 
     /**
-     * 고유 id로 티어추출
+     * 리그 정보로 티어추출
      *
-     * @param userGameInfo
+     * @param leagueEntry
      * @return Tier
      */
-    @SneakyThrows
-    public GameTier searchTier(String userGameInfo) {
-
-        String jsonToString = userGameInfo.replaceAll("[\\[\\[\\]]", "");
+    public GameTier searchTier(RiotLeagueEntryDto leagueEntry) {
 
-        if (jsonToString.isEmpty()) {
+        if (leagueEntry == null) {
             return GameTier.getUnranked();
         }
 
-        JSONObject summonerDetail = (JSONObject) jsonParser.parse(jsonToString);
-        String tier = summonerDetail.get("tier").toString();
-        String rank = summonerDetail.get("rank").toString();
-
-
-        return GameTier.findGameTier(tier, rank);
+        return GameTier.findGameTier(leagueEntry.tier(), leagueEntry.rank());
 
     }
 
     /**
      * 플레이 횟수 검색
      *
-     * @param userGameInfo
+     * @param leagueEntry
      * @return
      */
-    public Integer getPlayCount(String userGameInfo) {
+    public Integer getPlayCount(RiotLeagueEntryDto leagueEntry) {
 
-        String jsonToString = userGameInfo.replaceAll("[\\[\\[\\]]", "");
-
-        if (jsonToString.isEmpty())
+        if (leagueEntry == null)
             return 0;
 
-        return stringToIntegerPlayCount(jsonToString);
-
-    }
-
-    /**
-     * 플레이 횟수 문자열을 정수형으로 변환
-     *
-     * @param userGameInfoJSON
-     * @return
-     */
-    @SneakyThrows
-    public Integer stringToIntegerPlayCount(String userGameInfoJSON) {
-        JSONObject summonerDetail = (JSONObject) jsonParser.parse(userGameInfoJSON);
+        return leagueEntry.wins() + leagueEntry.losses();
 
-        return Integer.parseInt(summonerDetail.get("wins").toString()) + Integer.parseInt(summonerDetail.get("losses").toString());
     }
 
     /**
@@ -166,16 +143,13 @@ public class ParticipantWebClientService {
      */
     public ResponseUserGameInfoDto getTierAndPlayCount(String nickname) {
 
-        ParticipantSummonerDetail participantSummonerDetail = requestUserGameInfo(nickname);
-        String userGameInfo = participantSummonerDetail.getUserGameInfo();
-
-        GameTier tier = searchTier(userGameInfo);
-
-        Integer playCount = getPlayCount(userGameInfo);
+        ParticipantSummonerDetail participantSummonerDetail = requestUserGameInfo(nickname)
+                .blockOptional()
+                .orElseThrow(ParticipantGameIdNotFoundException::new);
 
         ResponseUserGameInfoDto userGameInfoDto = new ResponseUserGameInfoDto();
-        userGameInfoDto.setTier(tier.toString());
-        userGameInfoDto.setPlayCount(playCount);
+        userGameInfoDto.setTier(participantSummonerDetail.getGameTier().toString());
+        userGameInfoDto.setPlayCount(participantSummonerDetail.getPlayCount());
 
         return userGameInfoDto;
     }
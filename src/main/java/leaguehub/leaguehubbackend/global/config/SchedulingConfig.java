@@ -6,11 +6,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
 import java.time.LocalTime;
 
 @Configuration
+@EnableScheduling
 @Slf4j
 @RequiredArgsConstructor
 public class SchedulingConfig {
@@ -18,7 +20,8 @@ public class SchedulingConfig {
     private final NoticeService noticeService;
 
 
-    @Scheduled(cron = "${my.custom.cron}")
+    //my.custom.cron 을 설정한 프로필(prod)에서만 실행, 없으면 "-"(비활성화)
+    @Scheduled(cron = "${my.custom.cron:-}")
     @Bean
     public void noticeUpdateRun(){
 
@@ -14,7 +14,8 @@ public enum GlobalErrorCode implements ExceptionCode {
     SERVER_ERROR(INTERNAL_SERVER_ERROR, "G-S-001", "Internal Server Error"),
     INVALID_REQUEST_METHOD(METHOD_NOT_ALLOWED, "G-C-001", "유효하지 않는 http 요청입니다."),
     INVALID_REQUEST_PARAMETER(BAD_REQUEST, "G-C-002", "유효하지 않는 파라미터 요청입니다."),
-    INVALID_RESOURCE_OWNER(FORBIDDEN, "G-C-003", "해당 리소스를 처리할 권한이 없습니다.");
+    INVALID_RESOURCE_OWNER(FORBIDDEN, "G-C-003", "해당 리소스를 처리할 권한이 없습니다."),
+    CONCURRENT_UPDATE(CONFLICT, "G-C-004", "다른 요청과 동시에 수정되었습니다. 다시 시도해주세요.");
 
 
 
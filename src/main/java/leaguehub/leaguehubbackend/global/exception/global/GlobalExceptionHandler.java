@@ -1,10 +1,12 @@
 package leaguehub.leaguehubbackend.global.exception.global;
 
 import leaguehub.leaguehubbackend.domain.member.exception.kakao.exception.KakaoInvalidCodeException;
+import leaguehub.leaguehubbackend.global.exception.global.exception.ConcurrentUpdateException;
 import leaguehub.leaguehubbackend.global.exception.global.exception.GlobalServerErrorException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.ObjectError;
@@ -35,6 +37,28 @@ public class GlobalExceptionHandler {
         );
     }
 
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ExceptionResponse> concurrentUpdateException(ConcurrentUpdateException e) {
+        ExceptionCode exceptionCode = e.getExceptionCode();
+        log.warn("{}", exceptionCode.getMessage());
+
+        return new ResponseEntity<>(
+                new ExceptionResponse(exceptionCode),
+                exceptionCode.getHttpStatus()
+        );
+    }
+
+    //재시도하지 않는 경로에서 난 낙관적 락 충돌
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ExceptionResponse> optimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.warn("{}", e.getMessage());
+
+        return new ResponseEntity<>(
+                new ExceptionResponse(GlobalErrorCode.CONCURRENT_UPDATE),
+                GlobalErrorCode.CONCURRENT_UPDATE.getHttpStatus()
+        );
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity processValidationError(MethodArgumentNotValidException exception) {
         BindingResult bindingResult = exception.getBindingResult();
@@ -0,0 +1,21 @@
+package leaguehub.leaguehubbackend.global.exception.global.exception;
+
+import leaguehub.leaguehubbackend.global.exception.global.ExceptionCode;
+
+import static leaguehub.leaguehubbackend.global.exception.global.GlobalErrorCode.CONCURRENT_UPDATE;
+
+public class ConcurrentUpdateException extends RuntimeException {
+
+    private final ExceptionCode exceptionCode;
+
+    public ConcurrentUpdateException() {
+
+        super(CONCURRENT_UPDATE.getMessage());
+        this.exceptionCode = CONCURRENT_UPDATE;
+    }
+
+    public ExceptionCode getExceptionCode() {
+
+        return exceptionCode;
+    }
+}
@@ -0,0 +1,85 @@
+package leaguehub.leaguehubbackend.global.redis.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 서버 사이에서 같은 작업이 동시에 실행되지 않도록 하는 Redis 락
+ * Redis 에 접근할 수 없으면 락 없이 진행하도록 토큰을 발급한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisLockService {
+
+    //자신이 잡은 락일 때만 삭제
+    private static final DefaultRedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    //자신이 잡은 락일 때만 만료 시간 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+
+    /**
+     * @param key 락 키
+     * @param ttl 락을 잡은 서버가 죽어도 풀리도록 하는 만료 시간
+     * @return 락을 잡으면 해제할 때 쓰는 토큰, 다른 서버가 잡고 있으면 empty
+     */
+    public Optional<String> tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+
+        try {
+            Boolean locked = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+            return Boolean.TRUE.equals(locked) ? Optional.of(token) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("Redis 락 획득 실패 key = {} : {}", key, e.getMessage());
+            return Optional.of(token);
+        }
+    }
+
+    public boolean isLocked(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        } catch (DataAccessException e) {
+            log.warn("Redis 락 조회 실패 key = {} : {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 작업이 만료 시간보다 오래 걸릴 때 락을 잡은 서버가 만료 시간을 다시 늘린다.
+     *
+     * @return 아직 자신이 락을 잡고 있어 연장했으면 true
+     */
+    public boolean renew(String key, String token, Duration ttl) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+            return renewed != null && renewed == 1L;
+        } catch (DataAccessException e) {
+            log.warn("Redis 락 연장 실패 key = {} : {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    public void unlock(String key, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+        } catch (DataAccessException e) {
+            log.warn("Redis 락 해제 실패 key = {} : {}", key, e.getMessage());
+        }
+    }
+}
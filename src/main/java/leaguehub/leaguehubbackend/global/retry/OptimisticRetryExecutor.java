@@ -0,0 +1,114 @@
+package leaguehub.leaguehubbackend.global.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import leaguehub.leaguehubbackend.global.exception.global.exception.ConcurrentUpdateException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 트랜잭션을 처음부터 다시 실행한다.
+ * 트랜잭션 안에서 외부 호출 없이 DB 만 바꾸는, 다시 실행해도 결과가 같은 작업에만 사용한다.
+ * 충돌 횟수는 optimistic.retry(operation, result) 메트릭으로 남긴다.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryExecutor {
+
+    private static final String METRIC_NAME = "optimistic.retry";
+    //한 번 재시도 전에 기다리는 최대 시간
+    private static final long MAX_BACKOFF_MILLIS = 100;
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OptimisticRetryExecutor(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                   @Value("${optimistic-retry.max-attempts:3}") int maxAttempts,
+                                   @Value("${optimistic-retry.backoff-millis:20}") long backoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    /**
+     * 이미 트랜잭션 안에서 호출되면 다시 실행할 수 없으므로 한 번만 실행한다.
+     *
+     * @param operation 메트릭 태그로 쓰는 작업 이름
+     * @param action    트랜잭션 안에서 실행할 작업
+     * @return action 결과
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) return action.get();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                T result = transactionTemplate.execute(status -> action.get());
+                if (attempt > 1) counter(operation, "recovered").increment();
+                return result;
+            } catch (RuntimeException e) {
+                if (!isOptimisticLockFailure(e)) throw e;
+
+                if (attempt >= maxAttempts) {
+                    counter(operation, "exhausted").increment();
+                    log.warn("낙관적 락 충돌 재시도 실패 operation = {}, attempt = {}", operation, attempt);
+                    throw new ConcurrentUpdateException();
+                }
+
+                counter(operation, "retried").increment();
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void run(String operation, Runnable action) {
+        execute(operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private boolean isOptimisticLockFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OptimisticLockingFailureException || cause instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 같이 충돌한 요청이 같은 시점에 다시 부딪히지 않도록 지터를 더해 기다린다.
+     * 호출한 서블릿, STOMP 인바운드 스레드를 그대로 재우므로 한 번에 MAX_BACKOFF_MILLIS 를 넘지 않게 하고,
+     * 요청 하나가 재시도로 막히는 시간은 최대 (maxAttempts - 1) * MAX_BACKOFF_MILLIS 이다.
+     */
+    private void backoff(int attempt) {
+        long sleepMillis = Math.min(MAX_BACKOFF_MILLIS,
+                backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1));
+
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException();
+        }
+    }
+
+    private Counter counter(String operation, String result) {
+        return Counter.builder(METRIC_NAME)
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
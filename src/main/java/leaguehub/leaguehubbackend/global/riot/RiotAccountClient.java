@@ -0,0 +1,47 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import leaguehub.leaguehubbackend.domain.participant.exception.exception.ParticipantGameIdNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 라이엇 ID(게임 닉네임#태그) -> puuid 조회
+ * 참가 신청과 점수 업데이트가 같은 캐시와 같은 실패 처리를 쓰고, 우선순위만 호출하는 쪽에서 정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RiotAccountClient {
+
+    private static final String ACCOUNT_BY_RIOT_ID_URL = "https://asia.api.riotgames.com/riot/account/v1/accounts/by-riot-id/";
+
+    private final RiotApiGateway riotApiGateway;
+    private final RiotPuuidCache riotPuuidCache;
+
+
+    /**
+     * 닉네임 + 태그로 고유 puuid 추출
+     * 캐시에 없을 때만 라이엇 API를 호출한다.
+     *
+     * @param riotId   게임 닉네임#태그
+     * @param priority 라이엇 API 대기열 우선순위
+     * @return puuid
+     */
+    public Mono<String> requestPuuid(String riotId, RiotApiPriority priority) {
+        String gameId = riotId.split("#")[0];
+        String gameTag = riotId.split("#")[1];
+
+        Mono<String> requestPuuid = riotApiGateway.get(priority, "account-by-riot-id", ACCOUNT_BY_RIOT_ID_URL + gameId + "/" + gameTag,
+                        RiotJsonDecoders::decodePuuid, ParticipantGameIdNotFoundException::new)
+                .switchIfEmpty(Mono.error(ParticipantGameIdNotFoundException::new))
+                .publishOn(Schedulers.boundedElastic())
+                .doOnNext(puuid -> riotPuuidCache.put(riotId, puuid))
+                .doOnError(ParticipantGameIdNotFoundException.class, e -> riotPuuidCache.evict(riotId));
+
+        return Mono.fromCallable(() -> riotPuuidCache.get(riotId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(requestPuuid);
+    }
+}
@@ -0,0 +1,306 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import leaguehub.leaguehubbackend.global.exception.global.exception.GlobalServerErrorException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 모든 라이엇 API 호출이 거쳐가는 게이트웨이
+ * 키 / 리전 호스트(asia, kr) 별로 app, method rate limit 을 추적하고
+ * 우선순위 대기열에서 사용 가능한 키로 요청을 분배한다.
+ */
+@Slf4j
+@Component
+public class RiotApiGateway {
+
+    private static final String RIOT_TOKEN_HEADER = "X-Riot-Token";
+    private static final String API_KEY_PARAM = "api_key=";
+    private static final int MAX_RATE_LIMIT_RETRY = 2;
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000;
+
+    private final WebClient webClient;
+    private final MeterRegistry meterRegistry;
+    private final List<String> apiTokens;
+    private final String appRateLimit;
+    private final String methodRateLimit;
+    private final Map<String, HostLane> hostLanes = new ConcurrentHashMap<>();
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    public RiotApiGateway(WebClient webClient, MeterRegistry meterRegistry,
+                          @Value("${riot-api-key-1}") String riotApiKey1,
+                          @Value("${riot-api-key-2}") String riotApiKey2,
+                          @Value("${riot.gateway.app-rate-limit:20:1,100:120}") String appRateLimit,
+                          @Value("${riot.gateway.method-rate-limit:2000:60}") String methodRateLimit) {
+        this.webClient = webClient;
+        this.meterRegistry = meterRegistry;
+        this.apiTokens = List.of(extractToken(riotApiKey1), extractToken(riotApiKey2));
+        this.appRateLimit = appRateLimit;
+        this.methodRateLimit = methodRateLimit;
+    }
+
+
+    /**
+     * 라이엇 API GET 요청
+     *
+     * @param priority    대기열 우선순위
+     * @param method      method rate limit 을 구분하는 이름
+     * @param url         api key 를 제외한 요청 url
+     * @param decoder     응답 body 디코더
+     * @param clientError 4xx 응답일 때 던질 예외
+     * @return 디코딩한 응답
+     */
+    public <T> Mono<T> get(RiotApiPriority priority, String method, String url, RiotResponseDecoder<T> decoder,
+                           Supplier<? extends RuntimeException> clientError) {
+        HostLane hostLane = hostLanes.computeIfAbsent(UriComponentsBuilder.fromHttpUrl(url).build().getHost(), HostLane::new);
+
+        return Mono.defer(() -> hostLane.acquire(priority, method))
+                .flatMap(apiKey -> webClient.get()
+                        .uri(url)
+                        .header(RIOT_TOKEN_HEADER, apiKey.token)
+                        .exchangeToMono(response -> handleResponse(hostLane, apiKey, method, response, decoder, clientError)))
+                .retryWhen(Retry.max(MAX_RATE_LIMIT_RETRY)
+                        .filter(RiotRateLimitedException.class::isInstance)
+                        .onRetryExhaustedThrow((retrySpec, retrySignal) -> new GlobalServerErrorException()));
+    }
+
+    /**
+     * 모든 키의 app rate limit 기준으로 한 번에 보낼 수 있는 요청 수
+     * 여러 경기를 동시에 조회하는 작업의 병렬도 상한으로 쓴다.
+     */
+    public int burstCapacity() {
+        return apiTokens.size() * new RiotRateLimiter(appRateLimit).burstCapacity();
+    }
+
+    private <T> Mono<T> handleResponse(HostLane hostLane, ApiKeyState apiKey, String method, ClientResponse response,
+                                       RiotResponseDecoder<T> decoder, Supplier<? extends RuntimeException> clientError) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        long now = System.currentTimeMillis();
+
+        apiKey.appLimiter.sync(headers.getFirst("X-App-Rate-Limit"), headers.getFirst("X-App-Rate-Limit-Count"), now);
+        apiKey.methodLimiter(method).sync(headers.getFirst("X-Method-Rate-Limit"), headers.getFirst("X-Method-Rate-Limit-Count"), now);
+
+        if (response.statusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+            long retryAfter = getRetryAfterMillis(headers);
+            if ("method".equalsIgnoreCase(headers.getFirst("X-Rate-Limit-Type"))) {
+                apiKey.methodLimiter(method).blockFor(retryAfter, now);
+            } else {
+                apiKey.appLimiter.blockFor(retryAfter, now);
+            }
+            hostLane.rateLimitedCounter.increment();
+            log.warn("라이엇 API 요청 한도 초과 host = {}, method = {}, retryAfter = {}ms", hostLane.host, method, retryAfter);
+            hostLane.scheduleDispatch(retryAfter);
+
+            return response.releaseBody().then(Mono.error(new RiotRateLimitedException(hostLane.host)));
+        }
+
+        if (response.statusCode().is4xxClientError())
+            return response.releaseBody().then(Mono.error(clientError.get()));
+
+        if (response.statusCode().is5xxServerError())
+            return response.releaseBody().then(Mono.error(new GlobalServerErrorException()));
+
+        return response.bodyToMono(byte[].class)
+                .flatMap(body -> Mono.justOrEmpty(decode(body, decoder)));
+    }
+
+    private <T> T decode(byte[] body, RiotResponseDecoder<T> decoder) {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return decoder.decode(parser);
+        } catch (IOException e) {
+            log.error("라이엇 API 응답 디코딩 실패 : {}", e.getMessage());
+            throw new GlobalServerErrorException();
+        }
+    }
+
+    private static long getRetryAfterMillis(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) return DEFAULT_RETRY_AFTER_MILLIS;
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_RETRY_AFTER_MILLIS;
+        }
+    }
+
+    /**
+     * 설정값이 "?api_key=..." 형태여도 키 값만 꺼내 X-Riot-Token 헤더로 보낸다.
+     */
+    private static String extractToken(String riotApiKey) {
+        int index = riotApiKey.indexOf(API_KEY_PARAM);
+        return index == -1 ? riotApiKey.trim() : riotApiKey.substring(index + API_KEY_PARAM.length()).trim();
+    }
+
+
+    /**
+     * 리전 호스트 하나의 대기열과 키별 rate limit 상태
+     */
+    private class HostLane {
+
+        private final String host;
+        private final List<ApiKeyState> apiKeys = new ArrayList<>();
+        private final NavigableSet<Waiter> waiters = new TreeSet<>(
+                Comparator.comparing((Waiter waiter) -> waiter.priority).thenComparingLong(waiter -> waiter.sequence));
+        private final Counter rateLimitedCounter;
+        private long sequence;
+        private int nextKeyIndex;
+        private boolean dispatchScheduled;
+
+        private HostLane(String host) {
+            this.host = host;
+            apiTokens.forEach(token -> apiKeys.add(new ApiKeyState(token)));
+
+            Gauge.builder("riot.gateway.queue.depth", waiters, Collection::size)
+                    .tag("host", host)
+                    .register(meterRegistry);
+            this.rateLimitedCounter = Counter.builder("riot.gateway.rate.limited")
+                    .tag("host", host)
+                    .register(meterRegistry);
+        }
+
+        private Mono<ApiKeyState> acquire(RiotApiPriority priority, String method) {
+            return Mono.create(sink -> {
+                Waiter waiter;
+                synchronized (this) {
+                    waiter = new Waiter(priority, method, sink, sequence++);
+                    waiters.add(waiter);
+                }
+                sink.onCancel(() -> remove(waiter));
+                dispatch();
+            });
+        }
+
+        private synchronized void remove(Waiter waiter) {
+            waiters.remove(waiter);
+        }
+
+        private void dispatch() {
+            List<Map.Entry<Waiter, ApiKeyState>> ready = new ArrayList<>();
+
+            synchronized (this) {
+                dispatchScheduled = false;
+                long now = System.currentTimeMillis();
+
+                //method limit 에 막힌 요청은 건너뛰어 같은 호스트의 다른 method 요청을 막지 않는다.
+                Set<String> blockedMethods = new HashSet<>();
+                long minWait = Long.MAX_VALUE;
+                Iterator<Waiter> iterator = waiters.iterator();
+
+                while (iterator.hasNext()) {
+                    Waiter waiter = iterator.next();
+                    if (blockedMethods.contains(waiter.method)) continue;
+
+                    long appWait = Long.MAX_VALUE;
+                    ApiKeyState acquired = null;
+
+                    for (int i = 0; i < apiKeys.size(); i++) {
+                        int keyIndex = (nextKeyIndex + i) % apiKeys.size();
+                        ApiKeyState apiKey = apiKeys.get(keyIndex);
+                        long wait = apiKey.availableIn(waiter.method, now);
+                        if (wait == 0) {
+                            apiKey.consume(waiter.method, now);
+                            acquired = apiKey;
+                            nextKeyIndex = keyIndex + 1;
+                            break;
+                        }
+                        appWait = Math.min(appWait, apiKey.appLimiter.availableIn(now));
+                        minWait = Math.min(minWait, wait);
+                    }
+
+                    if (acquired == null) {
+                        //모든 키의 app limit 이 막혔으면 뒤의 요청도 보낼 수 없다.
+                        if (appWait > 0) break;
+
+                        blockedMethods.add(waiter.method);
+                        continue;
+                    }
+
+                    iterator.remove();
+                    ready.add(Map.entry(waiter, acquired));
+                }
+
+                if (minWait != Long.MAX_VALUE) scheduleDispatch(minWait);
+            }
+
+            ready.forEach(entry -> {
+                Waiter waiter = entry.getKey();
+                Timer.builder("riot.gateway.wait")
+                        .tag("host", host)
+                        .tag("priority", waiter.priority.name())
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - waiter.enqueuedAt, TimeUnit.NANOSECONDS);
+                waiter.sink.success(entry.getValue());
+            });
+        }
+
+        private synchronized void scheduleDispatch(long delayMillis) {
+            if (dispatchScheduled) return;
+
+            dispatchScheduled = true;
+            Schedulers.parallel().schedule(this::dispatch, Math.max(delayMillis, 1), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private class ApiKeyState {
+
+        private final String token;
+        private final RiotRateLimiter appLimiter;
+        private final Map<String, RiotRateLimiter> methodLimiters = new ConcurrentHashMap<>();
+
+        private ApiKeyState(String token) {
+            this.token = token;
+            this.appLimiter = new RiotRateLimiter(appRateLimit);
+        }
+
+        private RiotRateLimiter methodLimiter(String method) {
+            return methodLimiters.computeIfAbsent(method, key -> new RiotRateLimiter(methodRateLimit));
+        }
+
+        private long availableIn(String method, long now) {
+            return Math.max(appLimiter.availableIn(now), methodLimiter(method).availableIn(now));
+        }
+
+        private void consume(String method, long now) {
+            appLimiter.consume(now);
+            methodLimiter(method).consume(now);
+        }
+    }
+
+    private static class Waiter {
+
+        private final RiotApiPriority priority;
+        private final String method;
+        private final MonoSink<ApiKeyState> sink;
+        private final long sequence;
+        private final long enqueuedAt = System.nanoTime();
+
+        private Waiter(RiotApiPriority priority, String method, MonoSink<ApiKeyState> sink, long sequence) {
+            this.priority = priority;
+            this.method = method;
+            this.sink = sink;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+/**
+ * 라이엇 API 요청 우선순위
+ * 선언 순서가 빠를수록 먼저 처리된다.
+ */
+public enum RiotApiPriority {
+    SCORE_UPDATE,
+    PARTICIPANT_LOOKUP
+}
@@ -0,0 +1,135 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import leaguehub.leaguehubbackend.global.riot.dto.RiotLeagueEntryDto;
+import leaguehub.leaguehubbackend.global.riot.dto.RiotSummonerDto;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 라이엇 API 응답 디코더 모음
+ * 전체 JSON 트리를 만들지 않고 필요한 필드만 읽고 나머지는 건너뛴다.
+ */
+public final class RiotJsonDecoders {
+
+    private static final Set<String> ACCOUNT_FIELDS = Set.of("puuid");
+    private static final Set<String> SUMMONER_FIELDS = Set.of("id", "puuid");
+    private static final Set<String> PLACEMENT_FIELDS = Set.of("puuid", "placement");
+    private static final Set<String> LEAGUE_ENTRY_FIELDS = Set.of("queueType", "tier", "rank", "wins", "losses");
+
+    private RiotJsonDecoders() {
+    }
+
+    /**
+     * account-v1 응답에서 puuid
+     */
+    public static String decodePuuid(JsonParser parser) throws IOException {
+        parser.nextToken();
+        return readFields(parser, ACCOUNT_FIELDS).get("puuid");
+    }
+
+    /**
+     * summoner-v1 응답에서 소환사 id, puuid
+     */
+    public static RiotSummonerDto decodeSummoner(JsonParser parser) throws IOException {
+        parser.nextToken();
+        Map<String, String> fields = readFields(parser, SUMMONER_FIELDS);
+        return new RiotSummonerDto(fields.get("id"), fields.get("puuid"));
+    }
+
+    /**
+     * match-v1 ids 응답의 매치 Id 목록
+     */
+    public static List<String> decodeMatchIds(JsonParser parser) throws IOException {
+        List<String> matchIds = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_ARRAY) return matchIds;
+
+        while (parser.nextToken() == JsonToken.VALUE_STRING) {
+            matchIds.add(parser.getText());
+        }
+        return matchIds;
+    }
+
+    /**
+     * match-v1 상세 응답의 info.participants 에서 puuid -> 등수
+     */
+    public static Map<String, Integer> decodePlacements(JsonParser parser) throws IOException {
+        Map<String, Integer> placementByPuuid = new LinkedHashMap<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) return placementByPuuid;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if ("info".equals(fieldName) && value == JsonToken.START_OBJECT) {
+                readParticipants(parser, placementByPuuid);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return placementByPuuid;
+    }
+
+    /**
+     * league-v1 entries 응답
+     */
+    public static List<RiotLeagueEntryDto> decodeLeagueEntries(JsonParser parser) throws IOException {
+        List<RiotLeagueEntryDto> leagueEntries = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_ARRAY) return leagueEntries;
+
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            Map<String, String> fields = readFields(parser, LEAGUE_ENTRY_FIELDS);
+            leagueEntries.add(new RiotLeagueEntryDto(
+                    fields.get("queueType"),
+                    fields.get("tier"),
+                    fields.get("rank"),
+                    parseInt(fields.get("wins")),
+                    parseInt(fields.get("losses"))));
+        }
+        return leagueEntries;
+    }
+
+    private static void readParticipants(JsonParser parser, Map<String, Integer> placementByPuuid) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (!"participants".equals(fieldName) || value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                Map<String, String> fields = readFields(parser, PLACEMENT_FIELDS);
+                if (fields.containsKey("puuid") && fields.containsKey("placement"))
+                    placementByPuuid.put(fields.get("puuid"), parseInt(fields.get("placement")));
+            }
+        }
+    }
+
+    /**
+     * 현재 위치한 객체에서 원하는 단일 값 필드만 읽고 나머지는 건너뛴다.
+     */
+    private static Map<String, String> readFields(JsonParser parser, Set<String> fieldNames) throws IOException {
+        Map<String, String> fields = new HashMap<>();
+        if (parser.currentToken() != JsonToken.START_OBJECT) return fields;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            if (fieldNames.contains(fieldName) && value.isScalarValue()) {
+                fields.put(fieldName, parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return fields;
+    }
+
+    private static int parseInt(String value) {
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,82 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 끝난 라이엇 경기 결과 저장소 (riotMatchUuid -> puuid 별 등수)
+ * 라이엇 경기 결과는 경기가 끝나면 바뀌지 않으므로 필요한 값만 남겨 보관한다.
+ * 프로세스 내부 near cache 를 먼저 보고, 없으면 Redis 를 조회한다.
+ */
+@Slf4j
+@Component
+public class RiotMatchResultStore {
+
+    private static final String REDIS_KEY_FORMAT = "riotMatch:%s:placements";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final Map<String, Map<String, Integer>> nearCache;
+
+    public RiotMatchResultStore(StringRedisTemplate stringRedisTemplate,
+                                @Value("${riot.match-result-store.ttl-days:30}") long ttlDays,
+                                @Value("${riot.match-result-store.near-max-entries:1000}") int nearCacheMaxEntries) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofDays(ttlDays);
+        this.nearCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<String, Integer>> eldest) {
+                return size() > nearCacheMaxEntries;
+            }
+        });
+    }
+
+    /**
+     * @param riotMatchUuid 라이엇 고유 매치 Id
+     * @return puuid -> 등수
+     */
+    public Optional<Map<String, Integer>> get(String riotMatchUuid) {
+        Map<String, Integer> placementByPuuid = nearCache.get(riotMatchUuid);
+        if (placementByPuuid != null) return Optional.of(placementByPuuid);
+
+        try {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(toKey(riotMatchUuid));
+            if (entries.isEmpty()) return Optional.empty();
+
+            Map<String, Integer> storedPlacement = new LinkedHashMap<>();
+            entries.forEach((puuid, placement) -> storedPlacement.put(puuid.toString(), Integer.parseInt(placement.toString())));
+
+            Map<String, Integer> unmodifiablePlacement = Collections.unmodifiableMap(storedPlacement);
+            nearCache.put(riotMatchUuid, unmodifiablePlacement);
+            return Optional.of(unmodifiablePlacement);
+        } catch (DataAccessException e) {
+            log.warn("라이엇 경기 결과 조회 실패 riotMatchUuid = {} : {}", riotMatchUuid, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String riotMatchUuid, Map<String, Integer> placementByPuuid) {
+        nearCache.put(riotMatchUuid, Collections.unmodifiableMap(new LinkedHashMap<>(placementByPuuid)));
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        placementByPuuid.forEach((puuid, placement) -> entries.put(puuid, placement.toString()));
+
+        try {
+            String key = toKey(riotMatchUuid);
+            stringRedisTemplate.opsForHash().putAll(key, entries);
+            stringRedisTemplate.expire(key, ttl);
+        } catch (DataAccessException e) {
+            log.warn("라이엇 경기 결과 저장 실패 riotMatchUuid = {} : {}", riotMatchUuid, e.getMessage());
+        }
+    }
+
+    private static String toKey(String riotMatchUuid) {
+        return String.format(REDIS_KEY_FORMAT, riotMatchUuid);
+    }
+}
@@ -0,0 +1,104 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 라이엇 ID(게임 닉네임#태그) -> puuid 캐시
+ * 프로세스 내부 near cache 를 먼저 보고, 없으면 Redis 를 조회한다.
+ */
+@Slf4j
+@Component
+public class RiotPuuidCache {
+
+    private static final String REDIS_KEY_FORMAT = "riotId:%s:puuid";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final Duration nearCacheTtl;
+    private final Map<String, CachedPuuid> nearCache;
+
+    public RiotPuuidCache(StringRedisTemplate stringRedisTemplate,
+                          @Value("${riot.puuid-cache.ttl-hours:24}") long ttlHours,
+                          @Value("${riot.puuid-cache.near-ttl-minutes:10}") long nearCacheTtlMinutes,
+                          @Value("${riot.puuid-cache.near-max-entries:10000}") int nearCacheMaxEntries) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.nearCacheTtl = Duration.ofMinutes(nearCacheTtlMinutes);
+        this.nearCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPuuid> eldest) {
+                return size() > nearCacheMaxEntries;
+            }
+        });
+    }
+
+    public Optional<String> get(String riotId) {
+        String key = toKey(riotId);
+
+        CachedPuuid cachedPuuid = nearCache.get(key);
+        if (cachedPuuid != null && !cachedPuuid.isExpired()) {
+            return Optional.of(cachedPuuid.puuid);
+        }
+
+        try {
+            String puuid = stringRedisTemplate.opsForValue().get(key);
+            if (puuid != null) putNearCache(key, puuid);
+            return Optional.ofNullable(puuid);
+        } catch (DataAccessException e) {
+            log.warn("puuid 캐시 조회 실패 riotId = {} : {}", riotId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(String riotId, String puuid) {
+        String key = toKey(riotId);
+        putNearCache(key, puuid);
+
+        try {
+            stringRedisTemplate.opsForValue().set(key, puuid, ttl);
+        } catch (DataAccessException e) {
+            log.warn("puuid 캐시 저장 실패 riotId = {} : {}", riotId, e.getMessage());
+        }
+    }
+
+    /**
+     * 참가자의 게임 Id가 바뀌었거나 라이엇 ID를 찾을 수 없을 때 캐시를 지운다.
+     *
+     * @param riotId
+     */
+    public void evict(String riotId) {
+        String key = toKey(riotId);
+        nearCache.remove(key);
+
+        try {
+            stringRedisTemplate.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("puuid 캐시 삭제 실패 riotId = {} : {}", riotId, e.getMessage());
+        }
+    }
+
+    private void putNearCache(String key, String puuid) {
+        nearCache.put(key, new CachedPuuid(puuid, System.currentTimeMillis() + nearCacheTtl.toMillis()));
+    }
+
+    private static String toKey(String riotId) {
+        return String.format(REDIS_KEY_FORMAT, riotId.trim().toLowerCase());
+    }
+
+    private record CachedPuuid(String puuid, long expiresAt) {
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
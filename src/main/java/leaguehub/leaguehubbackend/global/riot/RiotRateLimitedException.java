@@ -0,0 +1,11 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+/**
+ * 라이엇 API 429 응답, Retry-After 만큼 기다린 후 게이트웨이에서 재시도한다.
+ */
+class RiotRateLimitedException extends RuntimeException {
+
+    RiotRateLimitedException(String host) {
+        super("라이엇 API 요청 한도 초과 : " + host);
+    }
+}
@@ -0,0 +1,118 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 라이엇 rate limit("20:1,100:120") 한 묶음을 토큰 버킷으로 관리한다.
+ * 응답 헤더의 limit / count 값으로 버킷을 다시 맞춘다.
+ */
+class RiotRateLimiter {
+
+    private final List<Bucket> buckets = new ArrayList<>();
+    private String limitSpec;
+    private long blockedUntil;
+
+    RiotRateLimiter(String limitSpec) {
+        this.limitSpec = limitSpec;
+        for (String limit : limitSpec.split(",")) {
+            String[] values = limit.trim().split(":");
+            buckets.add(new Bucket(Integer.parseInt(values[0]), Integer.parseInt(values[1])));
+        }
+    }
+
+    /**
+     * 토큰을 바로 사용할 수 있으면 0, 아니면 대기해야 하는 시간(ms)
+     */
+    synchronized long availableIn(long now) {
+        if (now < blockedUntil) return blockedUntil - now;
+
+        long wait = 0;
+        for (Bucket bucket : buckets) {
+            wait = Math.max(wait, bucket.availableIn(now));
+        }
+        return wait;
+    }
+
+    synchronized void consume(long now) {
+        for (Bucket bucket : buckets) {
+            bucket.refill(now);
+            bucket.tokens -= 1;
+        }
+    }
+
+    /**
+     * 응답 헤더로 받은 limit, count 값으로 버킷 상태를 맞춘다.
+     *
+     * @param limitHeader X-App-Rate-Limit 또는 X-Method-Rate-Limit
+     * @param countHeader X-App-Rate-Limit-Count 또는 X-Method-Rate-Limit-Count
+     */
+    synchronized void sync(String limitHeader, String countHeader, long now) {
+        if (limitHeader == null) return;
+
+        if (!limitHeader.equals(limitSpec)) {
+            RiotRateLimiter updated = new RiotRateLimiter(limitHeader);
+            buckets.clear();
+            buckets.addAll(updated.buckets);
+            limitSpec = limitHeader;
+        }
+
+        if (countHeader == null) return;
+
+        for (String count : countHeader.split(",")) {
+            String[] values = count.trim().split(":");
+            int used = Integer.parseInt(values[0]);
+            int seconds = Integer.parseInt(values[1]);
+            buckets.stream()
+                    .filter(bucket -> bucket.seconds == seconds)
+                    .forEach(bucket -> {
+                        bucket.refill(now);
+                        bucket.tokens = Math.min(bucket.tokens, bucket.capacity - used);
+                    });
+        }
+    }
+
+    /**
+     * 가장 짧은 구간 버킷의 한도, 대기 없이 한 번에 보낼 수 있는 요청 수
+     */
+    synchronized int burstCapacity() {
+        return buckets.stream()
+                .min(Comparator.comparingInt(bucket -> bucket.seconds))
+                .map(bucket -> bucket.capacity)
+                .orElse(1);
+    }
+
+    synchronized void blockFor(long millis, long now) {
+        blockedUntil = Math.max(blockedUntil, now + millis);
+    }
+
+    private static class Bucket {
+        private final int capacity;
+        private final int seconds;
+        private final double refillPerMillis;
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(int capacity, int seconds) {
+            this.capacity = capacity;
+            this.seconds = seconds;
+            this.refillPerMillis = capacity / (seconds * 1000.0);
+            this.tokens = capacity;
+            this.lastRefill = System.currentTimeMillis();
+        }
+
+        private void refill(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerMillis);
+                lastRefill = now;
+            }
+        }
+
+        private long availableIn(long now) {
+            refill(now);
+            if (tokens >= 1) return 0;
+            return (long) Math.ceil((1 - tokens) / refillPerMillis);
+        }
+    }
+}
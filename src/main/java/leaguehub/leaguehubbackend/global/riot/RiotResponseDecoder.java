@@ -0,0 +1,14 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+
+/**
+ * 라이엇 API 응답 body 를 스트리밍으로 읽어 필요한 값만 꺼낸다.
+ */
+@FunctionalInterface
+public interface RiotResponseDecoder<T> {
+
+    T decode(JsonParser parser) throws IOException;
+}
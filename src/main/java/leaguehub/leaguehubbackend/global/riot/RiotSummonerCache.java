@@ -0,0 +1,90 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import leaguehub.leaguehubbackend.global.riot.dto.RiotSummonerDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * puuid -> 소환사 정보 캐시
+ * 소환사 Id는 puuid 가 같으면 바뀌지 않으므로 리그 정보 조회 전 라이엇 호출 한 번을 줄인다.
+ * 프로세스 내부 near cache 를 먼저 보고, 없으면 Redis 를 조회한다.
+ */
+@Slf4j
+@Component
+public class RiotSummonerCache {
+
+    private static final String REDIS_KEY_FORMAT = "riotSummoner:%s:id";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final Duration nearCacheTtl;
+    private final Map<String, CachedSummoner> nearCache;
+
+    public RiotSummonerCache(StringRedisTemplate stringRedisTemplate,
+                             @Value("${riot.summoner-cache.ttl-hours:24}") long ttlHours,
+                             @Value("${riot.summoner-cache.near-ttl-minutes:10}") long nearCacheTtlMinutes,
+                             @Value("${riot.summoner-cache.near-max-entries:10000}") int nearCacheMaxEntries) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.nearCacheTtl = Duration.ofMinutes(nearCacheTtlMinutes);
+        this.nearCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSummoner> eldest) {
+                return size() > nearCacheMaxEntries;
+            }
+        });
+    }
+
+    public Optional<RiotSummonerDto> get(String puuid) {
+        CachedSummoner cachedSummoner = nearCache.get(puuid);
+        if (cachedSummoner != null && !cachedSummoner.isExpired()) {
+            return Optional.of(cachedSummoner.summoner);
+        }
+
+        try {
+            String summonerId = stringRedisTemplate.opsForValue().get(toKey(puuid));
+            if (summonerId == null) return Optional.empty();
+
+            RiotSummonerDto summoner = new RiotSummonerDto(summonerId, puuid);
+            putNearCache(summoner);
+            return Optional.of(summoner);
+        } catch (DataAccessException e) {
+            log.warn("소환사 캐시 조회 실패 puuid = {} : {}", puuid, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void put(RiotSummonerDto summoner) {
+        putNearCache(summoner);
+
+        try {
+            stringRedisTemplate.opsForValue().set(toKey(summoner.puuid()), summoner.id(), ttl);
+        } catch (DataAccessException e) {
+            log.warn("소환사 캐시 저장 실패 puuid = {} : {}", summoner.puuid(), e.getMessage());
+        }
+    }
+
+    private void putNearCache(RiotSummonerDto summoner) {
+        nearCache.put(summoner.puuid(), new CachedSummoner(summoner, System.currentTimeMillis() + nearCacheTtl.toMillis()));
+    }
+
+    private static String toKey(String puuid) {
+        return String.format(REDIS_KEY_FORMAT, puuid);
+    }
+
+    private record CachedSummoner(RiotSummonerDto summoner, long expiresAt) {
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package leaguehub.leaguehubbackend.global.riot.dto;
+
+public record RiotLeagueEntryDto(
+        String queueType,
+        String tier,
+        String rank,
+        int wins,
+        int losses
+) {
+}
@@ -0,0 +1,7 @@
+package leaguehub.leaguehubbackend.global.riot.dto;
+
+public record RiotSummonerDto(
+        String id,
+        String puuid
+) {
+}
@@ -0,0 +1,159 @@
+package leaguehub.leaguehubbackend.fixture;
+
+/**
+ * 라이엇 API 응답 body 예시
+ */
+public class RiotResponseFixture {
+
+    public static String accountResponse() {
+        return """
+                {
+                  "puuid": "account-puuid",
+                  "gameName": "leaguehub",
+                  "tagLine": "KR1"
+                }
+                """;
+    }
+
+    public static String summonerResponse() {
+        return """
+                {
+                  "id": "summoner-id",
+                  "accountId": "account-id",
+                  "puuid": "summoner-puuid",
+                  "profileIconId": 4568,
+                  "revisionDate": 1697040000000,
+                  "summonerLevel": 312
+                }
+                """;
+    }
+
+    public static String matchIdsResponse() {
+        return """
+                ["KR_6712345678", "KR_6712345601", "KR_6712345599"]
+                """;
+    }
+
+    public static String errorResponse() {
+        return """
+                {
+                  "status": {
+                    "message": "Data not found - match not found",
+                    "status_code": 404
+                  }
+                }
+                """;
+    }
+
+    /**
+     * tft match-v1 상세 응답
+     * 등수(placement)가 augments, companion, traits, units 같은 중첩 필드 뒤에 오고
+     * info 안에서도 participants 앞뒤로 모르는 필드가 섞여 있다.
+     */
+    public static String matchDetailResponse() {
+        return """
+                {
+                  "metadata": {
+                    "data_version": "5",
+                    "match_id": "KR_6712345678",
+                    "participants": ["puuid-1", "puuid-2", "puuid-3"]
+                  },
+                  "info": {
+                    "endOfGameResult": "GameComplete",
+                    "gameCreation": 1697040000000,
+                    "game_datetime": 1697042000000,
+                    "game_length": 2234.5,
+                    "game_version": "Version 13.20.538.6311",
+                    "participants": [
+                      {
+                        "augments": ["TFT9_Augment_Commander", "TFT9_Augment_Preparation"],
+                        "companion": {
+                          "content_ID": "companion-content",
+                          "item_ID": 1,
+                          "skin_ID": 1,
+                          "species": "PetTFTAvatar"
+                        },
+                        "gold_left": 2,
+                        "last_round": 38,
+                        "level": 9,
+                        "missions": {
+                          "Assists": 0,
+                          "PlayerScore2": 183
+                        },
+                        "placement": 1,
+                        "players_eliminated": 3,
+                        "puuid": "puuid-1",
+                        "time_eliminated": 2230.1,
+                        "total_damage_to_players": 152,
+                        "traits": [
+                          {"name": "Set9_Bruiser", "num_units": 4, "style": 2, "tier_current": 2, "tier_total": 4}
+                        ],
+                        "units": [
+                          {"character_id": "TFT9_Sett", "itemNames": ["TFT_Item_Warmogs", "TFT_Item_Redemption"], "rarity": 4, "tier": 2}
+                        ]
+                      },
+                      {
+                        "puuid": "puuid-2",
+                        "augments": [],
+                        "companion": {"content_ID": "companion-content", "item_ID": 2, "skin_ID": 3, "species": "PetChibi"},
+                        "traits": [
+                          {"name": "Set9_Sorcerer", "num_units": 2, "style": 1, "tier_current": 1, "tier_total": 3}
+                        ],
+                        "units": [],
+                        "placement": 7
+                      },
+                      {
+                        "puuid": "puuid-3",
+                        "partner_group_id": 1,
+                        "placement": 4,
+                        "units": [
+                          {"character_id": "TFT9_Ahri", "itemNames": [], "rarity": 3, "tier": 3}
+                        ]
+                      }
+                    ],
+                    "queue_id": 1100,
+                    "tft_game_type": "standard",
+                    "tft_set_core_name": "TFTSet9_Stage2",
+                    "tft_set_number": 9
+                  }
+                }
+                """;
+    }
+
+    /**
+     * tft league-v1 entries 응답
+     * RANKED_TFT 외의 큐가 함께 오고, wins, losses 가 빠진 항목이 있다.
+     */
+    public static String leagueEntriesResponse() {
+        return """
+                [
+                  {
+                    "queueType": "RANKED_TFT_TURBO",
+                    "ratedTier": "BLUE",
+                    "ratedRating": 2840,
+                    "summonerId": "summoner-id",
+                    "wins": 12,
+                    "losses": 30
+                  },
+                  {
+                    "leagueId": "league-id",
+                    "queueType": "RANKED_TFT",
+                    "tier": "GOLD",
+                    "rank": "II",
+                    "summonerId": "summoner-id",
+                    "leaguePoints": 45,
+                    "wins": 20,
+                    "veteran": false,
+                    "inactive": false,
+                    "miniSeries": {"losses": 0, "progress": "NN", "target": 2, "wins": 0}
+                  },
+                  {
+                    "queueType": "RANKED_TFT_DOUBLE_UP",
+                    "tier": "PLATINUM",
+                    "rank": "IV",
+                    "summonerId": "summoner-id"
+                  }
+                ]
+                """;
+    }
+}
@@ -0,0 +1,155 @@
+package leaguehub.leaguehubbackend.global.retry;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import leaguehub.leaguehubbackend.domain.channel.entity.Channel;
+import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRepository;
+import leaguehub.leaguehubbackend.global.exception.global.ExceptionResponse;
+import leaguehub.leaguehubbackend.global.exception.global.GlobalExceptionHandler;
+import leaguehub.leaguehubbackend.global.exception.global.exception.ConcurrentUpdateException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재시도는 트랜잭션 밖에서 호출될 때만 동작하므로 테스트 트랜잭션 없이 실제 DB 에 커밋하고 지운다.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+class OptimisticRetryExecutorTest {
+
+    @Autowired
+    OptimisticRetryExecutor optimisticRetryExecutor;
+
+    @Autowired
+    ChannelRepository channelRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    TransactionTemplate newTransaction;
+
+    Long channelId;
+
+
+    @BeforeEach
+    void setUp() {
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        channelId = channelRepository.save(Channel.createChannel("retry", 0, 16, 0, null)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channelRepository.deleteById(channelId);
+    }
+
+    /**
+     * 채널을 읽은 뒤 다른 트랜잭션이 먼저 수정해서 커밋하면, 읽어 둔 @Version 이 낡아 커밋할 때 충돌한다.
+     */
+    private String updateTitleWithStaleVersion(String title, boolean concurrentUpdate) {
+        Channel channel = channelRepository.findById(channelId).get();
+
+        if (concurrentUpdate) {
+            newTransaction.executeWithoutResult(status ->
+                    channelRepository.findById(channelId).get().updateRealPlayer(channel.getRealPlayer() + 1));
+        }
+
+        channel.updateTitle(title);
+        return title;
+    }
+
+    private double count(String operation, String result) {
+        Counter counter = meterRegistry.find("optimistic.retry")
+                .tag("operation", operation)
+                .tag("result", result)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("@Version 충돌이 나면 트랜잭션을 다시 실행해서 반영")
+    void retryStaleVersionUpdate() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String title = optimisticRetryExecutor.execute("test.recovered",
+                () -> updateTitleWithStaleVersion("updated", attempts.incrementAndGet() == 1));
+
+        Channel channel = channelRepository.findById(channelId).get();
+        assertThat(title).isEqualTo("updated");
+        assertThat(attempts.get()).isEqualTo(2);
+        assertThat(channel.getTitle()).isEqualTo("updated");
+        assertThat(channel.getRealPlayer()).isEqualTo(1);
+        assertThat(count("test.recovered", "retried")).isEqualTo(1);
+        assertThat(count("test.recovered", "recovered")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘겨도 충돌하면 ConcurrentUpdateException, 409 G-C-004")
+    void exhaustRetries() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticRetryExecutor.execute("test.exhausted", () -> {
+            attempts.incrementAndGet();
+            return updateTitleWithStaleVersion("updated", true);
+        })).isInstanceOf(ConcurrentUpdateException.class);
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(channelRepository.findById(channelId).get().getTitle()).isEqualTo("retry");
+        assertThat(count("test.exhausted", "retried")).isEqualTo(2);
+        assertThat(count("test.exhausted", "exhausted")).isEqualTo(1);
+
+        ResponseEntity<ExceptionResponse> response = new GlobalExceptionHandler()
+                .concurrentUpdateException(new ConcurrentUpdateException());
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getCode()).isEqualTo("G-C-004");
+    }
+
+    @Test
+    @DisplayName("이미 트랜잭션 안에서 호출되면 한 번만 실행하고 충돌을 그대로 던진다")
+    void runOnceInsideTransaction() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                optimisticRetryExecutor.execute("test.in-transaction", () -> {
+                    attempts.incrementAndGet();
+                    throw new ObjectOptimisticLockingFailureException(Channel.class, channelId);
+                })))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(count("test.in-transaction", "retried")).isZero();
+    }
+
+    @Test
+    @DisplayName("낙관적 락 충돌이 아닌 예외는 다시 실행하지 않는다")
+    void notRetryOtherException() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> optimisticRetryExecutor.execute("test.other", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+}
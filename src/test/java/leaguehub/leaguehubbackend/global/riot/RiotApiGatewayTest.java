@@ -0,0 +1,150 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import leaguehub.leaguehubbackend.global.exception.global.exception.GlobalServerErrorException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static leaguehub.leaguehubbackend.global.riot.RiotApiPriority.PARTICIPANT_LOOKUP;
+import static leaguehub.leaguehubbackend.global.riot.RiotApiPriority.SCORE_UPDATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiotApiGatewayTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    MockWebServer mockWebServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockWebServer.shutdown();
+    }
+
+    RiotApiGateway createGateway(String appRateLimit) {
+        return new RiotApiGateway(WebClient.create(), new SimpleMeterRegistry(),
+                "?api_key=key-1", "key-2", appRateLimit, "2000:60");
+    }
+
+    Mono<String> requestPuuid(RiotApiGateway gateway, RiotApiPriority priority, String method, String path) {
+        return gateway.get(priority, method, mockWebServer.url(path).toString(),
+                RiotJsonDecoders::decodePuuid, GlobalServerErrorException::new);
+    }
+
+    MockResponse puuidResponse(String puuid) {
+        return new MockResponse()
+                .setBody("{\"puuid\":\"" + puuid + "\"}")
+                .addHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    MockResponse rateLimitedResponse(String rateLimitType) {
+        return new MockResponse()
+                .setResponseCode(429)
+                .addHeader("X-Rate-Limit-Type", rateLimitType)
+                .addHeader(HttpHeaders.RETRY_AFTER, "30");
+    }
+
+    String takeRiotToken() throws InterruptedException {
+        RecordedRequest request = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(request).isNotNull();
+        return request.getHeader("X-Riot-Token");
+    }
+
+    @Test
+    @DisplayName("method 429 응답은 해당 키의 해당 method 만 막는다")
+    void methodRateLimitedBlocksOnlyMethod() throws InterruptedException {
+        RiotApiGateway gateway = createGateway("100:1");
+        mockWebServer.enqueue(rateLimitedResponse("method"));
+        mockWebServer.enqueue(puuidResponse("retried"));
+        mockWebServer.enqueue(puuidResponse("other-method"));
+
+        assertThat(requestPuuid(gateway, SCORE_UPDATE, "match", "/match").block(TIMEOUT)).isEqualTo("retried");
+        assertThat(requestPuuid(gateway, SCORE_UPDATE, "summoner", "/summoner").block(TIMEOUT)).isEqualTo("other-method");
+
+        assertThat(takeRiotToken()).isEqualTo("key-1");
+        //재시도는 method 가 막힌 첫 번째 키를 건너뛴다.
+        assertThat(takeRiotToken()).isEqualTo("key-2");
+        //다른 method 는 첫 번째 키를 그대로 쓴다.
+        assertThat(takeRiotToken()).isEqualTo("key-1");
+    }
+
+    @Test
+    @DisplayName("app 429 응답은 해당 키의 모든 method 를 막는다")
+    void appRateLimitedBlocksWholeKey() throws InterruptedException {
+        RiotApiGateway gateway = createGateway("100:1");
+        mockWebServer.enqueue(rateLimitedResponse("application"));
+        mockWebServer.enqueue(puuidResponse("retried"));
+        mockWebServer.enqueue(puuidResponse("other-method"));
+
+        assertThat(requestPuuid(gateway, SCORE_UPDATE, "match", "/match").block(TIMEOUT)).isEqualTo("retried");
+        assertThat(requestPuuid(gateway, SCORE_UPDATE, "summoner", "/summoner").block(TIMEOUT)).isEqualTo("other-method");
+
+        assertThat(takeRiotToken()).isEqualTo("key-1");
+        assertThat(takeRiotToken()).isEqualTo("key-2");
+        assertThat(takeRiotToken()).isEqualTo("key-2");
+    }
+
+    @Test
+    @DisplayName("응답 헤더로 첫 번째 키의 한도가 소진되면 두 번째 키를 쓴다")
+    void useSecondKeyWhenFirstExhausted() throws InterruptedException {
+        RiotApiGateway gateway = createGateway("2:10");
+        mockWebServer.enqueue(puuidResponse("first")
+                .addHeader("X-App-Rate-Limit", "2:10")
+                .addHeader("X-App-Rate-Limit-Count", "2:10"));
+        mockWebServer.enqueue(puuidResponse("second"));
+        mockWebServer.enqueue(puuidResponse("third"));
+
+        assertThat(requestPuuid(gateway, PARTICIPANT_LOOKUP, "account", "/account").block(TIMEOUT)).isEqualTo("first");
+        assertThat(requestPuuid(gateway, PARTICIPANT_LOOKUP, "account", "/account").block(TIMEOUT)).isEqualTo("second");
+        assertThat(requestPuuid(gateway, PARTICIPANT_LOOKUP, "account", "/account").block(TIMEOUT)).isEqualTo("third");
+
+        assertThat(takeRiotToken()).isEqualTo("key-1");
+        assertThat(takeRiotToken()).isEqualTo("key-2");
+        //차례는 첫 번째 키지만 한도가 소진되어 두 번째 키로 보낸다.
+        assertThat(takeRiotToken()).isEqualTo("key-2");
+    }
+
+    @Test
+    @DisplayName("한도가 찼을 때 늦게 들어온 점수 업데이트 요청이 참가자 조회 요청보다 먼저 나간다")
+    void scoreUpdateOvertakesParticipantLookup() throws Exception {
+        RiotApiGateway gateway = createGateway("1:1");
+        for (int i = 0; i < 4; i++) {
+            mockWebServer.enqueue(puuidResponse("puuid" + i));
+        }
+
+        //두 키의 토큰을 0.5초 간격으로 써서 채워지는 시점을 나눈다.
+        requestPuuid(gateway, SCORE_UPDATE, "match", "/warm-up-1").block(TIMEOUT);
+        Thread.sleep(500);
+        requestPuuid(gateway, SCORE_UPDATE, "match", "/warm-up-2").block(TIMEOUT);
+
+        CompletableFuture<String> lookup = requestPuuid(gateway, PARTICIPANT_LOOKUP, "account", "/lookup").toFuture();
+        CompletableFuture<String> score = requestPuuid(gateway, SCORE_UPDATE, "match", "/score").toFuture();
+
+        score.get(5, TimeUnit.SECONDS);
+        lookup.get(5, TimeUnit.SECONDS);
+
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/warm-up-1");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/warm-up-2");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/score");
+        assertThat(mockWebServer.takeRequest().getPath()).isEqualTo("/lookup");
+    }
+}
@@ -0,0 +1,92 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import leaguehub.leaguehubbackend.fixture.RiotResponseFixture;
+import leaguehub.leaguehubbackend.global.riot.dto.RiotLeagueEntryDto;
+import leaguehub.leaguehubbackend.global.riot.dto.RiotSummonerDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class RiotJsonDecodersTest {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    <T> T decode(String body, RiotResponseDecoder<T> decoder) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return decoder.decode(parser);
+        }
+    }
+
+    @Test
+    @DisplayName("account-v1 응답에서 puuid 만 꺼낸다")
+    void decodePuuid() throws IOException {
+        assertThat(decode(RiotResponseFixture.accountResponse(), RiotJsonDecoders::decodePuuid))
+                .isEqualTo("account-puuid");
+    }
+
+    @Test
+    @DisplayName("summoner-v1 응답에서 소환사 id, puuid 를 꺼낸다")
+    void decodeSummoner() throws IOException {
+        RiotSummonerDto summoner = decode(RiotResponseFixture.summonerResponse(), RiotJsonDecoders::decodeSummoner);
+
+        assertThat(summoner).isEqualTo(new RiotSummonerDto("summoner-id", "summoner-puuid"));
+    }
+
+    @Test
+    @DisplayName("match-v1 ids 응답의 매치 Id 목록을 순서대로 꺼낸다")
+    void decodeMatchIds() throws IOException {
+        assertThat(decode(RiotResponseFixture.matchIdsResponse(), RiotJsonDecoders::decodeMatchIds))
+                .containsExactly("KR_6712345678", "KR_6712345601", "KR_6712345599");
+        assertThat(decode("[]", RiotJsonDecoders::decodeMatchIds)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배열이 아닌 에러 응답이면 빈 매치 Id 목록")
+    void decodeMatchIdsFromErrorResponse() throws IOException {
+        assertThat(decode(RiotResponseFixture.errorResponse(), RiotJsonDecoders::decodeMatchIds)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("match-v1 상세 응답에서 중첩 필드를 건너뛰고 info.participants 의 puuid -> 등수만 꺼낸다")
+    void decodePlacements() throws IOException {
+        Map<String, Integer> placementByPuuid = decode(RiotResponseFixture.matchDetailResponse(), RiotJsonDecoders::decodePlacements);
+
+        //metadata.participants 의 puuid 목록은 등수로 읽지 않는다.
+        assertThat(placementByPuuid).containsExactly(
+                entry("puuid-1", 1),
+                entry("puuid-2", 7),
+                entry("puuid-3", 4));
+    }
+
+    @Test
+    @DisplayName("객체가 아닌 match-v1 응답이면 빈 등수")
+    void decodePlacementsFromEmptyResponse() throws IOException {
+        assertThat(decode("[]", RiotJsonDecoders::decodePlacements)).isEmpty();
+        assertThat(decode(RiotResponseFixture.errorResponse(), RiotJsonDecoders::decodePlacements)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("league-v1 응답의 모든 큐를 읽고, 빠진 wins, losses 는 0")
+    void decodeLeagueEntries() throws IOException {
+        List<RiotLeagueEntryDto> leagueEntries = decode(RiotResponseFixture.leagueEntriesResponse(), RiotJsonDecoders::decodeLeagueEntries);
+
+        assertThat(leagueEntries).containsExactly(
+                new RiotLeagueEntryDto("RANKED_TFT_TURBO", null, null, 12, 30),
+                new RiotLeagueEntryDto("RANKED_TFT", "GOLD", "II", 20, 0),
+                new RiotLeagueEntryDto("RANKED_TFT_DOUBLE_UP", "PLATINUM", "IV", 0, 0));
+    }
+
+    @Test
+    @DisplayName("랭크 기록이 없으면 빈 league-v1 목록")
+    void decodeEmptyLeagueEntries() throws IOException {
+        assertThat(decode("[]", RiotJsonDecoders::decodeLeagueEntries)).isEmpty();
+    }
+}
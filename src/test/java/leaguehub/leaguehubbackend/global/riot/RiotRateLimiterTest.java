@@ -0,0 +1,90 @@
+package leaguehub.leaguehubbackend.global.riot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RiotRateLimiterTest {
+
+    @Test
+    @DisplayName("토큰을 다 쓰면 구간 비율만큼 다시 채워진 뒤 사용 가능")
+    void refillAfterConsume() {
+        RiotRateLimiter limiter = new RiotRateLimiter("2:1");
+        long now = System.currentTimeMillis();
+
+        limiter.consume(now);
+        assertThat(limiter.availableIn(now)).isZero();
+
+        limiter.consume(now);
+        assertThat(limiter.availableIn(now)).isBetween(1L, 501L);
+        assertThat(limiter.availableIn(now + 600)).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 구간 중 가장 오래 기다려야 하는 버킷 기준으로 대기")
+    void waitForSlowestBucket() {
+        RiotRateLimiter limiter = new RiotRateLimiter("20:1,2:120");
+        long now = System.currentTimeMillis();
+
+        limiter.consume(now);
+        limiter.consume(now);
+
+        assertThat(limiter.availableIn(now + 1000)).isGreaterThan(1000L);
+    }
+
+    @Test
+    @DisplayName("응답 헤더의 count 로 같은 구간 버킷의 남은 토큰을 맞춘다")
+    void syncCountHeader() {
+        RiotRateLimiter limiter = new RiotRateLimiter("20:1,100:120");
+        long now = System.currentTimeMillis();
+
+        limiter.sync("20:1,100:120", "20:1,20:120", now);
+
+        assertThat(limiter.availableIn(now)).isPositive();
+        assertThat(limiter.availableIn(now + 1000)).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 헤더의 limit 이 설정과 다르면 버킷을 다시 만든다")
+    void syncLimitHeader() {
+        RiotRateLimiter limiter = new RiotRateLimiter("20:1,100:120");
+        long now = System.currentTimeMillis();
+
+        limiter.sync("5:1", null, now);
+        assertThat(limiter.burstCapacity()).isEqualTo(5);
+        assertThat(limiter.availableIn(now)).isZero();
+
+        limiter.sync("5:1", "5:1", now);
+        assertThat(limiter.availableIn(now)).isPositive();
+    }
+
+    @Test
+    @DisplayName("limit 헤더가 없으면 버킷을 그대로 둔다")
+    void syncWithoutHeader() {
+        RiotRateLimiter limiter = new RiotRateLimiter("1:1");
+        long now = System.currentTimeMillis();
+
+        limiter.sync(null, "1:1", now);
+
+        assertThat(limiter.availableIn(now)).isZero();
+    }
+
+    @Test
+    @DisplayName("429 응답의 Retry-After 동안은 토큰이 남아 있어도 막는다")
+    void blockFor() {
+        RiotRateLimiter limiter = new RiotRateLimiter("20:1");
+        long now = System.currentTimeMillis();
+
+        limiter.blockFor(3000, now);
+
+        assertThat(limiter.availableIn(now)).isEqualTo(3000L);
+        assertThat(limiter.availableIn(now + 3000)).isZero();
+    }
+
+    @Test
+    @DisplayName("한 번에 보낼 수 있는 요청 수는 가장 짧은 구간 버킷의 한도")
+    void burstCapacity() {
+        assertThat(new RiotRateLimiter("100:120,20:1").burstCapacity()).isEqualTo(20);
+    }
+}
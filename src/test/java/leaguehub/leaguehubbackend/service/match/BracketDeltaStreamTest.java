@@ -0,0 +1,133 @@
+package leaguehub.leaguehubbackend.service.match;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import leaguehub.leaguehubbackend.domain.match.dto.BracketDelta;
+import leaguehub.leaguehubbackend.domain.match.dto.BracketDeltaMessage;
+import leaguehub.leaguehubbackend.domain.match.dto.BracketDeltaSyncDto;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewChangedEvent;
+import leaguehub.leaguehubbackend.domain.match.service.stream.BracketDeltaStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BracketDeltaStreamTest {
+
+    private static final String CHANNEL_LINK = "42aa1b11ab88";
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    ValueOperations<String, String> valueOperations;
+    ListOperations<String, String> listOperations;
+    BracketDeltaStream bracketDeltaStream;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        listOperations = mock(ListOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+
+        bracketDeltaStream = new BracketDeltaStream(stringRedisTemplate, mock(RedisMessageListenerContainer.class),
+                mock(SimpMessagingTemplate.class), objectMapper, new SimpleMeterRegistry(), 200, 24);
+    }
+
+    @Test
+    @DisplayName("보관 중인 메시지로 건너뛴 sequence 를 채움")
+    void findMissingDeltas() {
+        givenHistory(5, 3, 4, 5);
+
+        BracketDeltaSyncDto result = bracketDeltaStream.findDeltas(CHANNEL_LINK, 3);
+
+        assertThat(result.resyncRequired()).isFalse();
+        assertThat(result.messages()).extracting(BracketDeltaMessage::sequence).containsExactly(4L, 5L);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 sequence 가 있으면 다시 조회")
+    void expiredDeltas() {
+        givenHistory(5, 4, 5);
+
+        BracketDeltaSyncDto result = bracketDeltaStream.findDeltas(CHANNEL_LINK, 1);
+
+        assertThat(result.resyncRequired()).isTrue();
+        assertThat(result.messages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("sequence 가 초기화되어 클라이언트보다 작으면 다시 조회")
+    void sequenceReset() {
+        givenHistory(2, 1, 2);
+
+        BracketDeltaSyncDto result = bracketDeltaStream.findDeltas(CHANNEL_LINK, 10);
+
+        assertThat(result.sequence()).isEqualTo(2);
+        assertThat(result.resyncRequired()).isTrue();
+    }
+
+    @Test
+    @DisplayName("sequence 키가 없어진 뒤 새 sequence 가 클라이언트보다 커져도 이어 붙이지 않고 다시 조회")
+    void sequenceLostAndGrown() {
+        Map<String, String> values = new HashMap<>();
+        List<String> history = new ArrayList<>();
+        when(valueOperations.setIfAbsent(anyString(), anyString()))
+                .thenAnswer(invocation -> values.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+        when(valueOperations.increment(anyString()))
+                .thenAnswer(invocation -> Long.parseLong(values.merge(invocation.getArgument(0), "1",
+                        (current, one) -> String.valueOf(Long.parseLong(current) + 1))));
+        when(valueOperations.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        when(listOperations.leftPush(anyString(), anyString())).thenAnswer(invocation -> {
+            history.add(0, invocation.getArgument(1));
+            return (long) history.size();
+        });
+        when(listOperations.range(anyString(), eq(0L), eq(-1L))).thenReturn(history);
+
+        //클라이언트는 5 까지 받았고 그 뒤 sequence 키가 없어짐
+        long clientSequence = 5;
+        LongStream.rangeClosed(1, clientSequence + 2).forEach(i -> bracketDeltaStream.onMatchViewChanged(
+                MatchViewChangedEvent.ofMatch(CHANNEL_LINK, 1L, BracketDelta.alarm(1L, true))));
+
+        BracketDeltaSyncDto result = bracketDeltaStream.findDeltas(CHANNEL_LINK, clientSequence);
+
+        assertThat(result.sequence()).isGreaterThan(clientSequence + 2);
+        assertThat(result.resyncRequired()).isTrue();
+        assertThat(result.messages()).isEmpty();
+    }
+
+    private void givenHistory(long currentSequence, long... sequences) {
+        when(valueOperations.get("matchBracket:sequence:" + CHANNEL_LINK)).thenReturn(String.valueOf(currentSequence));
+
+        List<String> history = LongStream.of(sequences)
+                .mapToObj(sequence -> new BracketDeltaMessage(CHANNEL_LINK, sequence, List.of(BracketDelta.alarm(1L, true))))
+                .map(this::toJson)
+                .collect(Collectors.toList());
+        when(listOperations.range("matchBracket:deltas:" + CHANNEL_LINK, 0, -1)).thenReturn(history);
+    }
+
+    private String toJson(BracketDeltaMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package leaguehub.leaguehubbackend.service.match;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
+import leaguehub.leaguehubbackend.domain.match.service.cache.BracketSnapshotCache;
+import leaguehub.leaguehubbackend.domain.match.service.cache.BracketSnapshotCache.BracketETag;
+import leaguehub.leaguehubbackend.domain.match.service.cache.BracketVersionStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BracketSnapshotCacheTest {
+
+    private static final String CHANNEL_LINK = "42aa1b11ab88";
+
+    BracketVersionStore bracketVersionStore;
+    BracketSnapshotCache bracketSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        bracketVersionStore = mock(BracketVersionStore.class);
+        bracketSnapshotCache = new BracketSnapshotCache(bracketVersionStore, mock(MatchRepository.class),
+                new ObjectMapper(), new SimpleMeterRegistry(), 100);
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 같은 ETag, 바뀌면 다른 ETag")
+    void eTagFollowsVersion() {
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(5L);
+        Optional<BracketETag> first = bracketSnapshotCache.findETag(CHANNEL_LINK, "count");
+
+        assertThat(first).isPresent();
+        assertThat(first.get().value()).startsWith("\"5-");
+        assertThat(bracketSnapshotCache.findETag(CHANNEL_LINK, "count")).isEqualTo(first);
+        assertThat(bracketSnapshotCache.findETag(CHANNEL_LINK, "rounds")).isNotEqualTo(first);
+
+        bracketSnapshotCache.onInvalidated(CHANNEL_LINK, 6L);
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(6L);
+
+        assertThat(bracketSnapshotCache.findETag(CHANNEL_LINK, "count")).isPresent().isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("무효화를 아직 받지 못한 버전이면 ETag 를 내주지 않음")
+    void untrustedVersion() {
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(5L);
+        bracketSnapshotCache.findETag(CHANNEL_LINK, "count");
+
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(6L);
+
+        assertThat(bracketSnapshotCache.findETag(CHANNEL_LINK, "count")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 버전의 응답은 한 번만 직렬화하고, 무효화 후 다시 만듦")
+    void bodyCachedPerVersion() {
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(5L);
+        BracketETag eTag = bracketSnapshotCache.findETag(CHANNEL_LINK, "count").get();
+        AtomicInteger loadCount = new AtomicInteger();
+
+        byte[] first = bracketSnapshotCache.getBody(CHANNEL_LINK, "count", eTag,
+                () -> List.of(loadCount.incrementAndGet()), Map.of());
+        byte[] second = bracketSnapshotCache.getBody(CHANNEL_LINK, "count", eTag,
+                () -> List.of(loadCount.incrementAndGet()), Map.of());
+
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first)).isEqualTo("[1]");
+
+        bracketSnapshotCache.onInvalidated(CHANNEL_LINK, 5L);
+        bracketSnapshotCache.getBody(CHANNEL_LINK, "count", eTag, () -> List.of(loadCount.incrementAndGet()), Map.of());
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("요청자가 달라도 공통 응답은 한 번만 만들고, 요청자별 필드만 바꿔 붙임")
+    void sharedBodyAcrossCallers() throws Exception {
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(5L);
+        BracketETag eTag = bracketSnapshotCache.findETag(CHANNEL_LINK, "round:1:0:16").get();
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<Map<String, Object>> loader = () -> {
+            Map<String, Object> roundView = new LinkedHashMap<>();
+            roundView.put("myGameId", null);
+            roundView.put("page", loadCount.incrementAndGet());
+            return roundView;
+        };
+
+        byte[] first = bracketSnapshotCache.getBody(CHANNEL_LINK, "round:1:0:16", eTag, loader,
+                Map.of("myGameId", "player1"));
+        byte[] second = bracketSnapshotCache.getBody(CHANNEL_LINK, "round:1:0:16", eTag, loader,
+                Map.of("myGameId", "player2"));
+
+        assertThat(loadCount).hasValue(1);
+        assertThat(new String(first)).isEqualTo("{\"myGameId\":\"player1\",\"page\":1}");
+
+        JsonNode secondNode = new ObjectMapper().readTree(second);
+        assertThat(secondNode.get("myGameId").asText()).isEqualTo("player2");
+        assertThat(secondNode.get("page").asInt()).isEqualTo(1);
+        assertThat(secondNode.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("저장 개수를 넘으면 가장 오래 쓰지 않은 응답만 지움")
+    void leastRecentlyUsedEviction() {
+        bracketSnapshotCache = new BracketSnapshotCache(bracketVersionStore, mock(MatchRepository.class),
+                new ObjectMapper(), new SimpleMeterRegistry(), 2);
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(5L);
+        BracketETag eTag = bracketSnapshotCache.findETag(CHANNEL_LINK, "count").get();
+        AtomicInteger loadCount = new AtomicInteger();
+        Supplier<List<Integer>> loader = () -> List.of(loadCount.incrementAndGet());
+
+        bracketSnapshotCache.getBody(CHANNEL_LINK, "a", eTag, loader, Map.of());
+        bracketSnapshotCache.getBody(CHANNEL_LINK, "b", eTag, loader, Map.of());
+        bracketSnapshotCache.getBody(CHANNEL_LINK, "a", eTag, loader, Map.of());
+        bracketSnapshotCache.getBody(CHANNEL_LINK, "c", eTag, loader, Map.of());
+        assertThat(loadCount).hasValue(3);
+
+        bracketSnapshotCache.getBody(CHANNEL_LINK, "a", eTag, loader, Map.of());
+        assertThat(loadCount).hasValue(3);
+
+        bracketSnapshotCache.getBody(CHANNEL_LINK, "b", eTag, loader, Map.of());
+        assertThat(loadCount).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("저장 개수를 넘어도 다른 채널의 무효화 버전은 유지")
+    void appliedVersionLeastRecentlyUsedEviction() {
+        bracketSnapshotCache = new BracketSnapshotCache(bracketVersionStore, mock(MatchRepository.class),
+                new ObjectMapper(), new SimpleMeterRegistry(), 2);
+        bracketSnapshotCache.onInvalidated("channelA", 5L);
+        bracketSnapshotCache.onInvalidated("channelB", 5L);
+        bracketSnapshotCache.onInvalidated("channelC", 5L);
+
+        when(bracketVersionStore.current("channelB")).thenReturn(6L);
+        when(bracketVersionStore.current("channelC")).thenReturn(6L);
+
+        assertThat(bracketSnapshotCache.findETag("channelB", "count")).isEmpty();
+        assertThat(bracketSnapshotCache.findETag("channelC", "count")).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package leaguehub.leaguehubbackend.service.match;
+
+import leaguehub.leaguehubbackend.domain.match.entity.BracketStructure;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BracketStructureTest {
+
+    @Test
+    @DisplayName("2의 거듭제곱 인원은 기존처럼 라운드마다 절반")
+    void powerOfTwo() {
+        BracketStructure bracketStructure = BracketStructure.of(256);
+
+        assertThat(bracketStructure.getRoundCount()).isEqualTo(6);
+        assertThat(playerCounts(bracketStructure)).containsExactly(256, 128, 64, 32, 16, 8);
+        assertThat(bracketStructure.getGroupCount(1)).isEqualTo(32);
+        assertThat(bracketStructure.getGroupCount(6)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("8의 배수가 아닌 인원은 인원이 적은 그룹을 포함")
+    void partialGroup() {
+        BracketStructure bracketStructure = BracketStructure.of(100);
+
+        assertThat(playerCounts(bracketStructure)).containsExactly(100, 52, 28, 16, 8);
+        assertThat(bracketStructure.getGroupCount(1)).isEqualTo(13);
+        assertThat(bracketStructure.getGroupCount(2)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("8명 이하가 남으면 결승")
+    void smallField() {
+        assertThat(playerCounts(BracketStructure.of(8))).containsExactly(8);
+        assertThat(playerCounts(BracketStructure.of(12))).containsExactly(12, 8);
+        assertThat(BracketStructure.of(7).getRoundCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("1024명 이상 대회")
+    void largeField() {
+        BracketStructure bracketStructure = BracketStructure.of(1500);
+
+        assertThat(bracketStructure.getGroupCount(1)).isEqualTo(188);
+        assertThat(bracketStructure.getPlayerCount(bracketStructure.getRoundCount())).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("26 번째 이후 그룹 이름")
+    void groupName() {
+        assertThat(BracketStructure.getGroupName(1)).isEqualTo("Group A");
+        assertThat(BracketStructure.getGroupName(26)).isEqualTo("Group Z");
+        assertThat(BracketStructure.getGroupName(27)).isEqualTo("Group AA");
+        assertThat(BracketStructure.getGroupName(128)).isEqualTo("Group DX");
+    }
+
+    private static List<Integer> playerCounts(BracketStructure bracketStructure) {
+        return bracketStructure.getRoundList().stream()
+                .map(bracketStructure::getPlayerCount)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,154 @@
+package leaguehub.leaguehubbackend.service.match;
+
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import leaguehub.leaguehubbackend.domain.channel.entity.Channel;
+import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRepository;
+import leaguehub.leaguehubbackend.domain.match.entity.Match;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayer;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
+import leaguehub.leaguehubbackend.domain.member.entity.Member;
+import leaguehub.leaguehubbackend.domain.member.repository.MemberRepository;
+import leaguehub.leaguehubbackend.domain.participant.entity.Participant;
+import leaguehub.leaguehubbackend.domain.participant.entity.ParticipantStatus;
+import leaguehub.leaguehubbackend.domain.participant.repository.ParticipantRepository;
+import leaguehub.leaguehubbackend.fixture.UserFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static leaguehub.leaguehubbackend.domain.participant.entity.ParticipantStatus.DISQUALIFICATION;
+import static leaguehub.leaguehubbackend.domain.participant.entity.ParticipantStatus.DROPOUT;
+import static leaguehub.leaguehubbackend.domain.participant.entity.ParticipantStatus.PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(locations = "classpath:application-test.properties")
+class MatchDropoutQueryTest {
+
+    private static final int MATCH_PROGRESS_PLAYER_COUNT = 5;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ChannelRepository channelRepository;
+
+    @Autowired
+    ParticipantRepository participantRepository;
+
+    @Autowired
+    MatchRepository matchRepository;
+
+    @Autowired
+    MatchPlayerRepository matchPlayerRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private final Map<String, Participant> participantByGameId = new HashMap<>();
+
+
+    @Test
+    @DisplayName("라운드 탈락자 쿼리 - 진출 인원 경계, 실격자, 동점자, 이미 탈락한 참가자")
+    void findDropoutParticipantIdsByMatchIds() {
+        Channel channel = channelRepository.save(Channel.createChannel("dropout", 0, 16, 0, null));
+        Match groupA = matchRepository.save(Match.createMatch(1, channel, "Group A"));
+        Match groupB = matchRepository.save(Match.createMatch(1, channel, "Group B"));
+
+        //진출 인원 전 실격자는 탈락, 이미 탈락한 참가자는 제외, 경계의 동점자는 게임 Id 순, 경계 뒤 실격자는 그대로
+        List<MatchPlayer> groupAPlayers = List.of(
+                createMatchPlayer(groupA, "a1", 1, PROGRESS),
+                createMatchPlayer(groupA, "a2", 2, DISQUALIFICATION),
+                createMatchPlayer(groupA, "a4", 3, PROGRESS),
+                createMatchPlayer(groupA, "a3", 3, PROGRESS),
+                createMatchPlayer(groupA, "a5", 4, DROPOUT),
+                createMatchPlayer(groupA, "a6", 5, PROGRESS),
+                createMatchPlayer(groupA, "a8", 6, PROGRESS),
+                createMatchPlayer(groupA, "a7", 6, PROGRESS),
+                createMatchPlayer(groupA, "a9", 8, DISQUALIFICATION));
+
+        //저장 순서와 상관없이 경계의 동점자는 게임 Id 가 빠른 참가자가 진출
+        List<MatchPlayer> groupBPlayers = List.of(
+                createMatchPlayer(groupB, "b1", 1, PROGRESS),
+                createMatchPlayer(groupB, "b2", 2, PROGRESS),
+                createMatchPlayer(groupB, "b3", 3, PROGRESS),
+                createMatchPlayer(groupB, "b4", 3, PROGRESS),
+                createMatchPlayer(groupB, "bzed", 4, PROGRESS),
+                createMatchPlayer(groupB, "bamy", 4, PROGRESS));
+
+        entityManager.flush();
+
+        List<Long> dropoutParticipantIds = matchPlayerRepository.findDropoutParticipantIdsByMatchIds(
+                List.of(groupA.getId(), groupB.getId()), MATCH_PROGRESS_PLAYER_COUNT);
+
+        List<Long> expected = new ArrayList<>(dropoutByPreviousLoop(groupAPlayers));
+        expected.addAll(dropoutByPreviousLoop(groupBPlayers));
+
+        assertThat(dropoutParticipantIds).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(dropoutParticipantIds).containsExactlyInAnyOrder(
+                participantId("a2"), participantId("a8"), participantId("bzed"));
+    }
+
+    private MatchPlayer createMatchPlayer(Match match, String gameId, int placement, ParticipantStatus participantStatus) {
+        Member member = memberRepository.save(UserFixture.createCustomeMember("dropout-" + gameId));
+        Participant participant = Participant.participateChannel(member, match.getChannel());
+        participant.updateParticipantStatus(gameId, "iron ii", gameId, "puuid-" + gameId);
+        participant.approveParticipantMatch();
+        if (participantStatus == DISQUALIFICATION) participant.disqualificationParticipant();
+        if (participantStatus == DROPOUT) participant.dropoutParticipantStatus();
+        participantRepository.save(participant);
+        participantByGameId.put(gameId, participant);
+
+        MatchPlayer matchPlayer = MatchPlayer.createMatchPlayer(participant, match);
+        matchPlayer.updateMatchPlayerScore(placement);
+        return matchPlayerRepository.save(matchPlayer);
+    }
+
+    private Long participantId(String gameId) {
+        return participantByGameId.get(gameId).getId();
+    }
+
+    /**
+     * 집합 쿼리로 바꾸기 전 MatchService.checkUpdateScore 의 매치별 반복문
+     * 점수 내림차순, 게임 Id 순으로 진행 중인 참가자를 세고, 상태가 바뀌는 참가자 Id 만 모은다.
+     */
+    private List<Long> dropoutByPreviousLoop(List<MatchPlayer> matchPlayerList) {
+        List<MatchPlayer> sortedMatchPlayerList = new ArrayList<>(matchPlayerList);
+        sortedMatchPlayerList.sort(Comparator.comparing(MatchPlayer::getPlayerScore).reversed()
+                .thenComparing(matchPlayer -> matchPlayer.getParticipant().getGameId()));
+
+        List<Long> dropoutParticipantIds = new ArrayList<>();
+        int progressCount = 0;
+
+        for (MatchPlayer matchPlayer : sortedMatchPlayerList) {
+            Participant participant = matchPlayer.getParticipant();
+            boolean alreadyDropout = participant.getParticipantStatus().equals(DROPOUT);
+
+            if (progressCount >= MATCH_PROGRESS_PLAYER_COUNT) {
+                if (!participant.getParticipantStatus().equals(DISQUALIFICATION) && !alreadyDropout) {
+                    dropoutParticipantIds.add(participant.getId());
+                }
+                continue;
+            }
+
+            if (participant.getParticipantStatus().equals(PROGRESS)) {
+                progressCount++;
+            } else if (!alreadyDropout) {
+                dropoutParticipantIds.add(participant.getId());
+            }
+        }
+
+        return dropoutParticipantIds;
+    }
+}
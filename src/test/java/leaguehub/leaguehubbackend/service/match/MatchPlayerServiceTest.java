@@ -4,6 +4,8 @@ import jakarta.transaction.Transactional;
 import leaguehub.leaguehubbackend.domain.match.dto.GameResultDto;
 import leaguehub.leaguehubbackend.domain.match.dto.MatchInfoDto;
 import leaguehub.leaguehubbackend.domain.match.dto.MatchPlayerInfo;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchScoreTargetDto;
+import leaguehub.leaguehubbackend.domain.match.dto.RiotAPIDto;
 import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus;
 import leaguehub.leaguehubbackend.domain.match.entity.MatchStatus;
 import leaguehub.leaguehubbackend.domain.match.entity.PlayerStatus;
@@ -47,7 +49,7 @@ class MatchPlayerServiceTest {
     @Test
     @DisplayName("점수 업데이트 성공 - 동점자 로직(1등 많이 한 사람, Becrux) 진출")
     void updateMatchPlayerScore() {
-        MatchInfoDto matchInfoDto = matchPlayerService.updateMatchPlayerScore(1L, 3, 1691910300L);
+        MatchInfoDto matchInfoDto = updateMatchPlayerScore(1L, 3, 1691910300L);
 
         assertThat(matchInfoDto.getMatchStatus()).isEqualTo(MatchStatus.END);
 
@@ -86,14 +88,14 @@ class MatchPlayerServiceTest {
     @Test
     @DisplayName("유효하지 않은 경기 - 가져온 결과에 모든 참가자가 있지 않음")
     void updateMatchPlayerScore_fail() {
-        assertThatThrownBy(() -> matchPlayerService.updateMatchPlayerScore(1L, 3, 1695726000L))
+        assertThatThrownBy(() -> updateMatchPlayerScore(1L, 3, 1695726000L))
                 .isInstanceOf(MatchResultIdNotFoundException.class);
     }
 
     @Test
     @DisplayName("매치 플레이어 점수 업데이트 - 실패(이미 업데이트 되어있음.)")
     void updateMatchPlayerScore_Fail() {
-        assertThatThrownBy(() -> matchPlayerService.updateMatchPlayerScore(1L, 2, 1691908000L))
+        assertThatThrownBy(() -> updateMatchPlayerScore(1L, 2, 1691908000L))
                 .isInstanceOf(MatchAlreadyUpdateException.class);
     }
 
@@ -118,4 +120,11 @@ class MatchPlayerServiceTest {
         assertThatThrownBy(() -> matchQueryService.getGameResult(2L)).isInstanceOf(MatchResultIdNotFoundException.class);
     }
 
-}
\ No newline at end of file
+    //MatchScoreService 와 같은 순서(대상 조회 -> 라이엇 조회 -> 결과 반영)를 테스트 트랜잭션 안에서 실행한다.
+    private MatchInfoDto updateMatchPlayerScore(Long matchId, Integer setCount, Long endTime) {
+        MatchScoreTargetDto matchScoreTargetDto = matchPlayerService.getScoreTarget(matchId, setCount);
+        RiotAPIDto matchDetailFromRiot = matchPlayerService.requestMatchDetailFromRiot(matchScoreTargetDto, endTime).block();
+
+        return matchPlayerService.applyMatchResult(matchId, setCount, matchDetailFromRiot);
+    }
+}
@@ -0,0 +1,126 @@
+package leaguehub.leaguehubbackend.service.match;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.transaction.Transactional;
+import leaguehub.leaguehubbackend.domain.channel.entity.Channel;
+import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRepository;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchInfoDto;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchRoundInfoDto;
+import leaguehub.leaguehubbackend.domain.match.entity.Match;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayer;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
+import leaguehub.leaguehubbackend.domain.match.service.MatchQueryService;
+import leaguehub.leaguehubbackend.domain.match.service.MatchService;
+import leaguehub.leaguehubbackend.domain.member.entity.Member;
+import leaguehub.leaguehubbackend.domain.member.repository.MemberRepository;
+import leaguehub.leaguehubbackend.domain.participant.entity.Participant;
+import leaguehub.leaguehubbackend.domain.participant.repository.ParticipantRepository;
+import leaguehub.leaguehubbackend.fixture.UserFixture;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = {"spring.jpa.properties.hibernate.generate_statistics=true", "match.bracket.lazy=false"})
+class MatchRoundViewQueryCountTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ChannelRepository channelRepository;
+
+    @Autowired
+    ParticipantRepository participantRepository;
+
+    @Autowired
+    MatchRepository matchRepository;
+
+    @Autowired
+    MatchPlayerRepository matchPlayerRepository;
+
+    @Autowired
+    MatchService matchService;
+
+    @Autowired
+    MatchQueryService matchQueryService;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("라운드 조회 쿼리 수는 그룹 수와 상관없이 일정")
+    public void loadMatchPlayerListQueryCountTest() throws Exception {
+        UserFixture.setUpCustomAuth("id");
+        Member host = memberRepository.save(UserFixture.createMember());
+
+        long twoGroupQueryCount = countRoundViewQueries(host, "small", 16);
+        long eightGroupQueryCount = countRoundViewQueries(host, "large", 64);
+
+        assertThat(eightGroupQueryCount).isEqualTo(twoGroupQueryCount);
+    }
+
+    private long countRoundViewQueries(Member host, String prefix, int maxPlayer) {
+        Channel channel = createAssignedChannel(host, prefix, maxPlayer);
+        int groupCount = maxPlayer / 8;
+
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        MatchRoundInfoDto matchRoundInfoDto = matchQueryService.loadMatchPlayerList(channel.getChannelLink(), 1, 0, groupCount);
+
+        long queryCount = statistics.getPrepareStatementCount();
+
+        assertThat(matchRoundInfoDto.getMatchInfoDtoList()).hasSize(groupCount);
+        assertThat(matchRoundInfoDto.getMatchInfoDtoList())
+                .extracting(MatchInfoDto::getMatchPlayerInfoList)
+                .allSatisfy(matchPlayerInfoList -> assertThat(matchPlayerInfoList).hasSize(8));
+
+        return queryCount;
+    }
+
+    private Channel createAssignedChannel(Member host, String prefix, int maxPlayer) {
+        Channel channel = channelRepository.save(Channel.createChannel(prefix, 0, maxPlayer, 0, null));
+        participantRepository.save(Participant.createHostChannel(host, channel));
+
+        matchService.createSubMatches(channel, maxPlayer);
+        List<Match> matchList = matchRepository.findAllByChannel_ChannelLinkAndMatchRoundOrderById(channel.getChannelLink(), 1);
+
+        for (int index = 0; index < maxPlayer; index++) {
+            Member member = memberRepository.save(UserFixture.createCustomeMember(prefix + index));
+            Participant participant = Participant.participateChannel(member, channel);
+            participant.updateParticipantStatus(prefix + "GameId" + index, "iron ii", prefix + index, "puuid" + index);
+            participant.approveParticipantMatch();
+            participantRepository.save(participant);
+
+            matchPlayerRepository.save(MatchPlayer.createMatchPlayer(participant, matchList.get(index / 8)));
+        }
+
+        return channel;
+    }
+}
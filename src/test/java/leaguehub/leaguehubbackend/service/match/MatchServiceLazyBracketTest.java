@@ -0,0 +1,155 @@
+package leaguehub.leaguehubbackend.service.match;
+
+import jakarta.transaction.Transactional;
+import leaguehub.leaguehubbackend.domain.channel.dto.CreateChannelDto;
+import leaguehub.leaguehubbackend.domain.channel.entity.Channel;
+import leaguehub.leaguehubbackend.domain.channel.entity.ChannelRule;
+import leaguehub.leaguehubbackend.domain.channel.entity.ChannelStatus;
+import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRepository;
+import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRuleRepository;
+import leaguehub.leaguehubbackend.domain.match.entity.Match;
+import leaguehub.leaguehubbackend.domain.match.entity.MatchSet;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchSetRepository;
+import leaguehub.leaguehubbackend.domain.match.service.MatchQueryService;
+import leaguehub.leaguehubbackend.domain.match.service.MatchService;
+import leaguehub.leaguehubbackend.domain.member.entity.Member;
+import leaguehub.leaguehubbackend.domain.member.repository.MemberRepository;
+import leaguehub.leaguehubbackend.domain.participant.entity.Participant;
+import leaguehub.leaguehubbackend.domain.participant.repository.ParticipantRepository;
+import leaguehub.leaguehubbackend.fixture.ChannelFixture;
+import leaguehub.leaguehubbackend.fixture.UserFixture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureMockMvc(addFilters = false)
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "match.bracket.lazy=true")
+class MatchServiceLazyBracketTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    ChannelRepository channelRepository;
+
+    @Autowired
+    ChannelRuleRepository channelRuleRepository;
+
+    @Autowired
+    ParticipantRepository participantRepository;
+
+    @Autowired
+    MatchRepository matchRepository;
+
+    @Autowired
+    MatchSetRepository matchSetRepository;
+
+    @Autowired
+    MatchService matchService;
+
+    @Autowired
+    MatchQueryService matchQueryService;
+
+
+    @AfterEach
+    public void tearDown() {
+        participantRepository.deleteAll();
+        matchRepository.deleteAll();
+        channelRuleRepository.deleteAll();
+        channelRepository.deleteAll();
+        memberRepository.deleteAll();
+
+        SecurityContextHolder.clearContext();
+    }
+
+    //최대 16명(16강, 결승) 채널과 호스트, 경기에 참가하는 플레이어
+    Channel createChannel(int playerCount) {
+        Member host = memberRepository.save(UserFixture.createMember());
+
+        CreateChannelDto channelDto = ChannelFixture.createAllPropertiesCustomChannelDto(false, false, 2400, null, 20);
+        Channel channel = Channel.createChannel(channelDto.getTitle(),
+                channelDto.getGameCategory(), channelDto.getMaxPlayer(),
+                channelDto.getMatchFormat(), channelDto.getChannelImageUrl());
+        channelRepository.save(channel);
+        channelRuleRepository.save(ChannelRule.createChannelRule(channel, channelDto.getTier(), channelDto.getTierMax(),
+                channelDto.getTierMin(), channelDto.getPlayCount(), channelDto.getPlayCountMin()));
+        participantRepository.save(Participant.createHostChannel(host, channel));
+
+        for (int i = 1; i <= playerCount; i++) {
+            Member member = memberRepository.save(UserFixture.createCustomeMember("player" + i));
+            Participant player = participantRepository.save(Participant.participateChannel(member, channel));
+            player.updateParticipantStatus("gameId" + i + "#kr1", "iron ii", "nickname" + i, "puuid" + i);
+            player.approveParticipantMatch();
+        }
+
+        return channel;
+    }
+
+    @Test
+    @DisplayName("지연 생성 - 경기 배정 시 해당 라운드의 매치, 매치 세트를 저장된 경기 횟수로 생성")
+    void matchAssignmentMaterializesRound() {
+        UserFixture.setUpCustomAuth("id");
+        Channel channel = createChannel(16);
+
+        assertThat(matchService.createSubMatches(channel, channel.getMaxPlayer())).isZero();
+        assertThat(matchRepository.findAllByChannel_ChannelLink(channel.getChannelLink())).isEmpty();
+
+        matchService.setMatchSetCount(channel.getChannelLink(), List.of(2, 5));
+        channel.updateChannelStatus(ChannelStatus.PROCEEDING);
+
+        matchService.matchAssignment(channel.getChannelLink(), 1);
+
+        List<Match> roundOneMatches = matchRepository.findAllByChannel_ChannelLinkAndMatchRoundOrderById(channel.getChannelLink(), 1);
+        assertThat(roundOneMatches).hasSize(2);
+        assertThat(roundOneMatches).extracting(Match::getMatchName).containsExactly("Group A", "Group B");
+        assertThat(roundOneMatches).allSatisfy(match -> assertThat(match.getMatchSetCount()).isEqualTo(5));
+
+        List<MatchSet> matchSets = matchSetRepository.findAllByMatch_Channel_ChannelLink(channel.getChannelLink());
+        assertThat(matchSets).hasSize(10);
+        assertThat(matchSets).allSatisfy(matchSet -> assertThat(matchSet.getMatch().getMatchRound()).isEqualTo(1));
+
+        assertThat(matchRepository.findAllByChannel_ChannelLinkAndMatchRoundOrderById(channel.getChannelLink(), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지연 생성 - 아직 만들지 않은 라운드의 경기 횟수 조회")
+    void getMatchSetCountForRoundsNotCreated() {
+        UserFixture.setUpCustomAuth("id");
+        Channel channel = createChannel(0);
+
+        assertThat(matchQueryService.getMatchSetCount(channel.getChannelLink()).getMatchSetCountList())
+                .containsExactly(Match.DEFAULT_MATCH_SET_COUNT, Match.DEFAULT_MATCH_SET_COUNT);
+
+        channel.updateMatchSetCountList(List.of(1, 4));
+
+        assertThat(matchQueryService.getMatchSetCount(channel.getChannelLink()).getMatchSetCountList())
+                .containsExactly(1, 4);
+    }
+
+    @Test
+    @DisplayName("지연 생성 - 매치가 없어도 경기 횟수 설정은 채널에 저장")
+    void setMatchSetCountWithoutMatches() {
+        UserFixture.setUpCustomAuth("id");
+        Channel channel = createChannel(0);
+
+        matchService.setMatchSetCount(channel.getChannelLink(), List.of(2, 4));
+
+        Channel findChannel = channelRepository.findByChannelLink(channel.getChannelLink()).get();
+        assertThat(findChannel.getMatchSetCountList()).containsExactly(2, 4);
+        assertThat(findChannel.findMatchSetCount(1)).contains(4);
+        assertThat(findChannel.findMatchSetCount(2)).contains(2);
+        assertThat(matchRepository.findAllByChannel_ChannelLink(channel.getChannelLink())).isEmpty();
+    }
+}
@@ -9,7 +9,6 @@ import leaguehub.leaguehubbackend.domain.channel.entity.Channel;
 import leaguehub.leaguehubbackend.domain.channel.entity.ChannelBoard;
 import leaguehub.leaguehubbackend.domain.channel.entity.ChannelRule;
 import leaguehub.leaguehubbackend.domain.match.entity.Match;
-import leaguehub.leaguehubbackend.domain.match.entity.MatchPlayer;
 import leaguehub.leaguehubbackend.domain.member.entity.Member;
 import leaguehub.leaguehubbackend.domain.participant.entity.Participant;
 import leaguehub.leaguehubbackend.fixture.ChannelFixture;
@@ -18,6 +17,7 @@ import leaguehub.leaguehubbackend.domain.channel.repository.ChannelBoardReposito
 import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRepository;
 import leaguehub.leaguehubbackend.domain.channel.repository.ChannelRuleRepository;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository;
+import leaguehub.leaguehubbackend.domain.match.repository.MatchPlayerRepository.MatchPlayerInfoRow;
 import leaguehub.leaguehubbackend.domain.match.repository.MatchRepository;
 import leaguehub.leaguehubbackend.domain.member.repository.MemberRepository;
 import leaguehub.leaguehubbackend.domain.participant.repository.ParticipantRepository;
@@ -158,9 +158,9 @@ class MatchServiceTest {
     @Test
     @DisplayName("DTO 변환 테스트")
     public void convertMatchPlayerDto() {
-        List<MatchPlayer> matchPlayerList = matchPlayerRepository.findAllByMatch_IdOrderByPlayerScoreDesc(1184L);
+        List<MatchPlayerInfoRow> matchPlayerInfoRows = matchPlayerRepository.findMatchPlayerInfoRows(List.of(1184L));
 
-        matchService.convertMatchPlayerInfoList(matchPlayerList).stream().forEach(matchPlayerInfo ->
+        matchPlayerInfoRows.stream().map(MatchPlayerInfoRow::toMatchPlayerInfo).forEach(matchPlayerInfo ->
                 System.out.println(matchPlayerInfo.getGameId()+ " "
                 + matchPlayerInfo.getScore() + " " + matchPlayerInfo.getMatchRank()));
     }
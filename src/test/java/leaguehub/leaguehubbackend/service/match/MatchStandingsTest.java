@@ -0,0 +1,365 @@
+package leaguehub.leaguehubbackend.service.match;
+
+import leaguehub.leaguehubbackend.domain.match.dto.GameResultDto;
+import leaguehub.leaguehubbackend.domain.match.dto.MatchRankResultDto;
+import leaguehub.leaguehubbackend.domain.match.entity.*;
+import leaguehub.leaguehubbackend.domain.match.service.standings.MatchStandings;
+import leaguehub.leaguehubbackend.domain.match.service.standings.MatchStandings.StandingPlayer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus.ADVANCE;
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchPlayerResultStatus.DROPOUT;
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchTieBreaker.LAST_SET_PLACEMENT;
+import static leaguehub.leaguehubbackend.domain.match.entity.MatchTieBreaker.MOST_FIRST_PLACES;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchStandingsTest {
+
+    private static final int ADVANCE_COUNT = 4;
+    private static final List<MatchTieBreaker> DEFAULT_TIE_BREAKERS = List.of(MOST_FIRST_PLACES, LAST_SET_PLACEMENT);
+
+    @Test
+    @DisplayName("진출 경계에 동점자가 없으면 상위 4명 진출")
+    void decideWithoutTie() {
+        List<GameResultDto> gameResults = List.of(
+                gameResult(1, "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"),
+                gameResult(2, "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"),
+                gameResult(3, "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"));
+
+        Map<Long, MatchPlayerResultStatus> result = decide(gameResults, DEFAULT_TIE_BREAKERS);
+
+        assertThat(advancedIds(result)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("동점자 처리 - 1등을 가장 많이 한 플레이어 진출")
+    void decideTieByMostFirstPlaces() {
+        //p4, p5 모두 14점, 세트마다 1등이 달라 최다 1등 횟수는 1번이고 p4만 1등을 함
+        List<GameResultDto> gameResults = List.of(
+                gameResult(1, "p4", "p1", "p2", "p3", "p5", "p6", "p7", "p8"),
+                gameResult(2, "p1", "p2", "p3", "p5", "p6", "p4", "p7", "p8"),
+                gameResult(3, "p2", "p1", "p3", "p5", "p6", "p4", "p7", "p8"));
+
+        Map<Long, MatchPlayerResultStatus> result = decide(gameResults, DEFAULT_TIE_BREAKERS);
+
+        assertThat(score(gameResults, "p4")).isEqualTo(score(gameResults, "p5"));
+        assertThat(advancedIds(result)).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+        assertThat(result).isEqualTo(legacyDecide(players(gameResults), gameResults));
+    }
+
+    @Test
+    @DisplayName("동점자 처리 - 1등 기준으로 나뉘지 않으면 마지막 세트 등수로 진출")
+    void decideTieByLastSetPlacement() {
+        //p4, p5 모두 13점이고 1등이 없음, 마지막 세트에서 p5가 더 높음
+        List<GameResultDto> gameResults = List.of(
+                gameResult(1, "p1", "p2", "p4", "p3", "p5", "p6", "p7", "p8"),
+                gameResult(2, "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"),
+                gameResult(3, "p1", "p2", "p3", "p5", "p6", "p7", "p4", "p8"));
+
+        Map<Long, MatchPlayerResultStatus> result = decide(gameResults, DEFAULT_TIE_BREAKERS);
+
+        assertThat(score(gameResults, "p4")).isEqualTo(score(gameResults, "p5"));
+        assertThat(advancedIds(result)).containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+        assertThat(result).isEqualTo(legacyDecide(players(gameResults), gameResults));
+    }
+
+    @Test
+    @DisplayName("동점자 처리 - 1등 최다 플레이어가 남은 자리보다 많으면 그중 마지막 세트 등수로 진출")
+    void decideTieWhenFirstPlaceLeadersExceedSlots() {
+        //p7, p1, p6 진출 확정 후 p2, p3, p4 모두 14점, 1등 최다(1번)인 p2와 p3 중 마지막 세트 등수가 높은 p3 진출
+        //기존 로직은 동점자 전체에서 마지막 세트 등수를 비교해 1등 최다가 아닌 p4를 골라 아무도 진출하지 못했음
+        List<GameResultDto> gameResults = List.of(
+                gameResult(1, "p2", "p1", "p7", "p4", "p8", "p5", "p6", "p3"),
+                gameResult(2, "p3", "p6", "p1", "p2", "p7", "p5", "p4", "p8"),
+                gameResult(3, "p7", "p4", "p6", "p3", "p8", "p1", "p5", "p2"));
+
+        Map<Long, MatchPlayerResultStatus> result = decide(gameResults, DEFAULT_TIE_BREAKERS);
+
+        assertThat(advancedIds(result)).containsExactlyInAnyOrder(1L, 3L, 6L, 7L);
+        assertThat(result.get(2L)).isEqualTo(DROPOUT);
+        assertThat(result.get(4L)).isEqualTo(DROPOUT);
+        assertThat(legacyDecide(players(gameResults), gameResults)).isNull();
+    }
+
+    @Test
+    @DisplayName("마지막 세트는 세트 수와 관계없이 가장 최근 세트 - 5세트")
+    void decideTieWithFiveSets() {
+        List<GameResultDto> gameResults = List.of(
+                gameResult(1, "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"),
+                gameResult(2, "p1", "p2", "p3", "p5", "p4", "p6", "p7", "p8"),
+                gameResult(3, "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"),
+                gameResult(4, "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"),
+                gameResult(5, "p1", "p2", "p3", "p5", "p6", "p4", "p7", "p8"));
+
+        Map<Long, MatchPlayerResultStatus> result = decide(gameResults, DEFAULT_TIE_BREAKERS);
+
+        assertThat(score(gameResults, "p4")).isEqualTo(score(gameResults, "p5"));
+        assertThat(advancedIds(result)).containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("세트 수가 3보다 적어도 결정 - 2세트")
+    void decideTieWithTwoSets() {
+        List<GameResultDto> gameResults = List.of(
+                gameResult(1, "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"),
+                gameResult(2, "p1", "p2", "p3", "p5", "p4", "p6", "p7", "p8"));
+
+        Map<Long, MatchPlayerResultStatus> result = decide(gameResults, DEFAULT_TIE_BREAKERS);
+
+        assertThat(advancedIds(result)).containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("동점자 처리 기준 설정 - 마지막 세트 등수만 사용")
+    void decideTieWithCustomTieBreakers() {
+        List<GameResultDto> gameResults = List.of(
+                gameResult(1, "p4", "p1", "p2", "p3", "p5", "p6", "p7", "p8"),
+                gameResult(2, "p1", "p2", "p3", "p5", "p6", "p4", "p7", "p8"),
+                gameResult(3, "p2", "p1", "p3", "p5", "p6", "p4", "p7", "p8"));
+
+        Map<Long, MatchPlayerResultStatus> result = decide(gameResults, List.of(LAST_SET_PLACEMENT));
+
+        assertThat(advancedIds(result)).containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+    }
+
+    @Test
+    @DisplayName("플레이어가 진출 인원 이하면 모두 진출")
+    void decideWithFewPlayers() {
+        List<GameResultDto> gameResults = List.of(gameResult(1, "p1", "p2", "p3"));
+
+        Map<Long, MatchPlayerResultStatus> result = decide(gameResults, DEFAULT_TIE_BREAKERS);
+
+        assertThat(advancedIds(result)).containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("무작위 3세트 결과에서 기존 진출 / 탈락 로직과 같은 결과")
+    void decideSameAsLegacyLogic() {
+        Random random = new Random(20231018L);
+        int comparedCount = 0;
+
+        for (int i = 0; i < 5_000; i++) {
+            boolean disqualifyAfterFirstSet = random.nextInt(4) == 0;
+            List<String> lobby = new ArrayList<>(List.of("p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8", "p9"));
+            List<GameResultDto> gameResults = new ArrayList<>();
+
+            for (int setCount = 1; setCount <= 3; setCount++) {
+                if (setCount == 2 && disqualifyAfterFirstSet) lobby.remove(random.nextInt(lobby.size()));
+                if (setCount == 1 && !disqualifyAfterFirstSet) lobby.remove(8);
+
+                List<String> placement = new ArrayList<>(lobby);
+                Collections.shuffle(placement, random);
+                gameResults.add(gameResult(setCount, placement.toArray(String[]::new)));
+            }
+
+            List<StandingPlayer> players = lobby.stream()
+                    .map(gameId -> new StandingPlayer(participantId(gameId), gameId, score(gameResults, gameId)))
+                    .collect(Collectors.toList());
+
+            Map<Long, MatchPlayerResultStatus> legacyResult = legacyDecide(players, gameResults);
+            if (legacyResult == null) continue;
+
+            Map<Long, MatchPlayerResultStatus> result = MatchStandings.of(players, gameResults)
+                    .decide(ADVANCE_COUNT, DEFAULT_TIE_BREAKERS);
+
+            assertThat(result).isEqualTo(legacyResult);
+            assertThat(advancedIds(result)).hasSize(ADVANCE_COUNT);
+            comparedCount++;
+        }
+
+        assertThat(comparedCount).isGreaterThan(4_500);
+    }
+
+    @Test
+    @DisplayName("세트마다 누적한 순위표와 세트별 등수로 다시 계산한 결과가 같음")
+    void decideSameWithAccumulatedStanding() {
+        Random random = new Random(20231019L);
+
+        for (int i = 0; i < 2_000; i++) {
+            List<String> lobby = new ArrayList<>(List.of("p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8"));
+            MatchStanding matchStanding = MatchStanding.createMatchStanding(new Match(), lobby.stream()
+                    .map(MatchStandingsTest::standingEntry)
+                    .collect(Collectors.toList()));
+            List<GameResultDto> gameResults = new ArrayList<>();
+            int matchSetCount = 3 + random.nextInt(3);
+
+            for (int setCount = 1; setCount <= matchSetCount; setCount++) {
+                if (setCount == 2 && random.nextInt(4) == 0) {
+                    matchStanding.disqualify(participantId(lobby.remove(random.nextInt(lobby.size()))));
+                }
+
+                List<String> placement = new ArrayList<>(lobby);
+                Collections.shuffle(placement, random);
+                GameResultDto gameResult = gameResult(setCount, placement.toArray(String[]::new));
+                gameResults.add(gameResult);
+
+                matchStanding.applyMatchSet(setCount, gameResult.getMatchRankResultDtos().stream()
+                        .collect(Collectors.toMap(MatchRankResultDto::getGameId, MatchRankResultDto::getPlacement)));
+            }
+
+            List<StandingPlayer> players = lobby.stream()
+                    .map(gameId -> new StandingPlayer(participantId(gameId), gameId, score(gameResults, gameId)))
+                    .collect(Collectors.toList());
+
+            assertThat(MatchStandings.of(matchStanding).decide(ADVANCE_COUNT, DEFAULT_TIE_BREAKERS))
+                    .isEqualTo(MatchStandings.of(players, gameResults).decide(ADVANCE_COUNT, DEFAULT_TIE_BREAKERS));
+
+            for (MatchStandingEntry entry : matchStanding.getEntries()) {
+                long higherScoreCount = matchStanding.getEntries().stream()
+                        .filter(other -> other.getScore() > entry.getScore())
+                        .count();
+
+                assertThat(entry.getRank()).isEqualTo(higherScoreCount + 1);
+                if (!entry.isDisqualified()) assertThat(entry.getScore()).isEqualTo(score(gameResults, entry.getGameId()));
+            }
+
+            MatchStandingEntryListConverter converter = new MatchStandingEntryListConverter();
+            assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(matchStanding.getEntries())))
+                    .isEqualTo(matchStanding.getEntries());
+        }
+    }
+
+
+    private Map<Long, MatchPlayerResultStatus> decide(List<GameResultDto> gameResults, List<MatchTieBreaker> tieBreakers) {
+        return MatchStandings.of(players(gameResults), gameResults).decide(ADVANCE_COUNT, tieBreakers);
+    }
+
+    private static List<StandingPlayer> players(List<GameResultDto> gameResults) {
+        return gameResults.get(0).getMatchRankResultDtos().stream()
+                .map(MatchRankResultDto::getGameId)
+                .map(gameId -> new StandingPlayer(participantId(gameId), gameId, score(gameResults, gameId)))
+                .collect(Collectors.toList());
+    }
+
+    private static MatchStandingEntry standingEntry(String gameId) {
+        return MatchStandingEntry.builder()
+                .matchPlayerId(participantId(gameId))
+                .participantId(participantId(gameId))
+                .gameId(gameId)
+                .playerStatus(PlayerStatus.WAITING)
+                .matchPlayerResultStatus(MatchPlayerResultStatus.PROGRESS)
+                .score(0)
+                .build();
+    }
+
+    private static GameResultDto gameResult(int setCount, String... gameIdsByPlacement) {
+        List<MatchRankResultDto> matchRanks = new ArrayList<>();
+        for (int i = 0; i < gameIdsByPlacement.length; i++) {
+            matchRanks.add(new MatchRankResultDto(gameIdsByPlacement[i], i + 1));
+        }
+        return new GameResultDto(setCount, matchRanks);
+    }
+
+    //MatchPlayer.updateMatchPlayerScore 와 같은 점수 계산
+    private static int score(List<GameResultDto> gameResults, String gameId) {
+        return gameResults.stream()
+                .flatMap(gameResult -> gameResult.getMatchRankResultDtos().stream())
+                .filter(matchRank -> matchRank.getGameId().equals(gameId))
+                .mapToInt(matchRank -> 9 - matchRank.getPlacement())
+                .sum();
+    }
+
+    private static Long participantId(String gameId) {
+        return Long.valueOf(gameId.substring(1));
+    }
+
+    private static Set<Long> advancedIds(Map<Long, MatchPlayerResultStatus> result) {
+        return result.entrySet().stream()
+                .filter(entry -> entry.getValue() == ADVANCE)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+
+    /**
+     * 기존 MatchPlayerService.updateEndMatchResult / tieBreaker 로직을 그대로 옮긴 것
+     * 1등 최다 플레이어가 남은 자리보다 많고 동점자 일부일 때는 진출자가 모자라는 문제가 있어 null 을 반환한다.
+     */
+    private static Map<Long, MatchPlayerResultStatus> legacyDecide(List<StandingPlayer> players, List<GameResultDto> gameResults) {
+        List<StandingPlayer> sortedPlayers = players.stream()
+                .sorted(Comparator.comparingInt(StandingPlayer::score).reversed().thenComparing(StandingPlayer::gameId))
+                .collect(Collectors.toList());
+        Map<String, MatchPlayerResultStatus> statusByGameId = new HashMap<>();
+
+        int advanceScore = sortedPlayers.get(3).score();
+        long winCount = sortedPlayers.stream().filter(player -> player.score() > advanceScore)
+                .peek(player -> statusByGameId.put(player.gameId(), ADVANCE)).count();
+        List<String> tieGameIdList = sortedPlayers.stream().filter(player -> player.score() == advanceScore)
+                .map(StandingPlayer::gameId).collect(Collectors.toList());
+        sortedPlayers.stream().filter(player -> player.score() < advanceScore)
+                .forEach(player -> statusByGameId.put(player.gameId(), DROPOUT));
+
+        if (winCount == 3 && tieGameIdList.size() == 1) {
+            statusByGameId.put(tieGameIdList.get(0), ADVANCE);
+        } else if (winCount < 4 && tieGameIdList.size() > 1) {
+            if (!legacyTieBreaker(new ArrayList<>(tieGameIdList), gameResults, 4 - (int) winCount, statusByGameId)) return null;
+        }
+
+        Map<Long, MatchPlayerResultStatus> result = new HashMap<>();
+        statusByGameId.forEach((gameId, status) -> result.put(participantId(gameId), status));
+        return result;
+    }
+
+    private static boolean legacyTieBreaker(List<String> tieList, List<GameResultDto> gameResults, int advanceCount,
+                                            Map<String, MatchPlayerResultStatus> statusByGameId) {
+        List<String> tiePlayerGameIdList = new ArrayList<>(tieList);
+        int tiePlayerCount = tieList.size();
+
+        Map<String, Integer> countFirstPlayerMap = new HashMap<>();
+        int maxCount = 0;
+        for (GameResultDto gameResult : gameResults) {
+            for (MatchRankResultDto matchRank : gameResult.getMatchRankResultDtos()) {
+                if (matchRank.getPlacement() == 1) {
+                    int count = countFirstPlayerMap.merge(matchRank.getGameId(), 1, Integer::sum);
+                    maxCount = Math.max(maxCount, count);
+                }
+            }
+        }
+        List<String> firstPlayer = new ArrayList<>();
+        for (String gameId : countFirstPlayerMap.keySet()) {
+            if (maxCount == countFirstPlayerMap.get(gameId) && tiePlayerGameIdList.contains(gameId)) firstPlayer.add(gameId);
+        }
+        if (firstPlayer.isEmpty()) firstPlayer = new ArrayList<>(tiePlayerGameIdList);
+
+        if (advanceCount - firstPlayer.size() >= 0) {
+            legacyUpdateStatus(tieList, firstPlayer, statusByGameId);
+            tieList.removeAll(firstPlayer);
+            tiePlayerGameIdList.removeAll(firstPlayer);
+            advanceCount -= firstPlayer.size();
+            tiePlayerCount -= firstPlayer.size();
+        } else {
+            if (firstPlayer.size() < tieList.size()) return false;
+            legacyUpdateStatus(tieList, firstPlayer, statusByGameId);
+        }
+
+        if (advanceCount > 0) {
+            if (tiePlayerCount > advanceCount) {
+                List<MatchRankResultDto> lastSetRanks = gameResults.stream()
+                        .filter(gameResult -> gameResult.getMatchSetCount() == 3)
+                        .findFirst().orElseThrow().getMatchRankResultDtos().stream()
+                        .sorted(Comparator.comparing(MatchRankResultDto::getPlacement))
+                        .collect(Collectors.toList());
+                List<String> advanceList = new ArrayList<>();
+                for (MatchRankResultDto matchRank : lastSetRanks) {
+                    if (tiePlayerGameIdList.contains(matchRank.getGameId()) && advanceCount > 0) {
+                        advanceList.add(matchRank.getGameId());
+                        advanceCount--;
+                    }
+                }
+                legacyUpdateStatus(tieList, advanceList, statusByGameId);
+            } else {
+                legacyUpdateStatus(tieList, tiePlayerGameIdList, statusByGameId);
+            }
+        }
+        return true;
+    }
+
+    private static void legacyUpdateStatus(List<String> tieList, List<String> advanceList,
+                                           Map<String, MatchPlayerResultStatus> statusByGameId) {
+        tieList.forEach(gameId -> statusByGameId.put(gameId, advanceList.contains(gameId) ? ADVANCE : DROPOUT));
+    }
+}
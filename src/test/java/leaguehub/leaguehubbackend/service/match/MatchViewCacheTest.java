@@ -0,0 +1,107 @@
+package leaguehub.leaguehubbackend.service.match;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import leaguehub.leaguehubbackend.domain.match.service.cache.BracketSnapshotCache;
+import leaguehub.leaguehubbackend.domain.match.service.cache.BracketVersionStore;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewCache;
+import leaguehub.leaguehubbackend.domain.match.service.cache.MatchViewKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchViewCacheTest {
+
+    private static final String CHANNEL_LINK = "42aa1b11ab88";
+    private static final MatchViewKey KEY = MatchViewKey.score(CHANNEL_LINK, 1L);
+
+    ValueOperations<String, String> valueOperations;
+    BracketVersionStore bracketVersionStore;
+    MatchViewCache matchViewCache;
+    AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.opsForSet()).thenReturn(mock(SetOperations.class));
+
+        bracketVersionStore = mock(BracketVersionStore.class);
+        matchViewCache = new MatchViewCache(stringRedisTemplate, mock(RedisMessageListenerContainer.class),
+                new ObjectMapper(), new SimpleMeterRegistry(), bracketVersionStore, mock(BracketSnapshotCache.class),
+                mock(PlatformTransactionManager.class), 600, 30, true, 10000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 저장한 값을 사용")
+    void sameVersionHit() {
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(5L);
+
+        assertThat(load()).isEqualTo("1");
+        assertThat(load()).isEqualTo("1");
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("읽는 사이에 버전이 올라가면 읽은 값을 저장하지 않음")
+    void versionBumpedWhileLoading() {
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(5L, 6L, 6L, 6L);
+
+        load();
+        assertThat(load()).isEqualTo("2");
+
+        verify(valueOperations, never()).set(anyString(), contains("\"bracketVersion\":5"), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 이전 버전으로 저장한 값은 사용하지 않음")
+    void staleRedisEntry() {
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(6L);
+        when(valueOperations.get(KEY.toRedisKey())).thenReturn("{\"bracketVersion\":5,\"cachedAt\":0,\"value\":\"old\"}");
+
+        assertThat(load()).isEqualTo("1");
+        verify(valueOperations).set(eq(KEY.toRedisKey()), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("이미 트랜잭션 안에서 읽은 값은 저장하지 않음")
+    void loadedInTransaction() {
+        when(bracketVersionStore.current(CHANNEL_LINK)).thenReturn(5L);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        load();
+        load();
+
+        assertThat(loadCount).hasValue(2);
+    }
+
+    private String load() {
+        return matchViewCache.get(KEY, String.class, () -> String.valueOf(loadCount.incrementAndGet()));
+    }
+}